@@ -0,0 +1,89 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.model.Proposal;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic, production-sized inputs shared by the benchmarks
+ */
+final class BenchmarkFixtures {
+
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "PostgreSQL", "React", "TypeScript", "Docker", "Kubernetes", "AWS",
+            "Python", "Django", "Figma", "UI Design", "Node.js", "GraphQL", "Redis", "Kafka"
+    };
+
+    private static final String[] CATEGORIES = {"Web Development", "Mobile", "Data", "Design", "DevOps"};
+
+    private static final String LOREM = "We are looking for an experienced engineer to extend an existing platform "
+            + "with new features, improve performance of critical endpoints and mentor the in-house team. ";
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Project> projects(int count, int descriptionChars) {
+        Random random = new Random(42);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(project(i + 1L, random, descriptionChars));
+        }
+        return projects;
+    }
+
+    static Project project(long id, Random random, int descriptionChars) {
+        Project project = new Project();
+        project.setId(id);
+        project.setClientId(1000L + random.nextInt(200));
+        project.setTitle("Project " + id + " - " + CATEGORIES[random.nextInt(CATEGORIES.length)] + " build");
+        project.setDescription(text(descriptionChars));
+        project.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        int budgetMin = 500 + random.nextInt(5000);
+        project.setBudgetMin(BigDecimal.valueOf(budgetMin));
+        project.setBudgetMax(BigDecimal.valueOf(budgetMin + 500 + random.nextInt(10000)));
+        project.setDurationDays(7 + random.nextInt(90));
+        project.setRequiredSkills(skills(random, 3 + random.nextInt(6)));
+        project.setStatus(ProjectStatus.OPEN);
+        project.setCreatedAt(LocalDateTime.now().minusDays(random.nextInt(60)));
+        project.setUpdatedAt(project.getCreatedAt());
+        return project;
+    }
+
+    static List<Proposal> proposals(Project project, int count, int coverLetterChars) {
+        Random random = new Random(7);
+        List<Proposal> proposals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Proposal proposal = new Proposal();
+            proposal.setId(i + 1L);
+            proposal.setProject(project);
+            proposal.setFreelancerId(5000L + i);
+            proposal.setCoverLetter(text(coverLetterChars));
+            proposal.setProposedBudget(BigDecimal.valueOf(500 + random.nextInt(10000)));
+            proposal.setDeliveryDays(5 + random.nextInt(60));
+            proposals.add(proposal);
+        }
+        return proposals;
+    }
+
+    static List<String> skills(Random random, int count) {
+        List<String> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+        }
+        return skills;
+    }
+
+    static String text(int chars) {
+        StringBuilder text = new StringBuilder(chars);
+        while (text.length() < chars) {
+            text.append(LOREM);
+        }
+        return text.substring(0, chars);
+    }
+}
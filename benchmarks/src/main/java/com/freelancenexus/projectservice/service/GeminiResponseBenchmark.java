@@ -0,0 +1,67 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.projectservice.config.GeminiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON extraction from a Gemini response in callGeminiForJson. The response is served from
+ * the response cache so only key fingerprinting, fence stripping and parsing are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeminiResponseBenchmark {
+
+    // 5 recommendations, a 15 proposal ranking batch, and an oversized 50 proposal ranking
+    @Param({"5", "15", "50"})
+    public int items;
+
+    private GeminiIntegrationService geminiService;
+    private String prompt;
+
+    @Setup
+    public void setUp() {
+        GeminiConfig config = new GeminiConfig();
+        ReflectionTestUtils.setField(config, "model", "gemini-pro");
+
+        GeminiResponseCache cache = new GeminiResponseCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 1000L);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 60L);
+        cache.init();
+
+        // No WebClient: every call is a cache hit
+        geminiService = new GeminiIntegrationService(null, config, new ObjectMapper(), cache);
+        prompt = BenchmarkFixtures.text(6000);
+        cache.put(geminiService.cacheKey(prompt), responseText(items), null);
+    }
+
+    @Benchmark
+    public JsonNode callGeminiForJson() {
+        return geminiService.callGeminiForJson(prompt);
+    }
+
+    private static String responseText(int items) {
+        StringBuilder text = new StringBuilder("Here is the ranking you asked for.\n\n```json\n[");
+        for (int i = 1; i <= items; i++) {
+            if (i > 1) {
+                text.append(",\n");
+            }
+            text.append("{\"proposalId\": ").append(i)
+                    .append(", \"aiScore\": ").append(100 - i)
+                    .append(", \"rank\": ").append(i)
+                    .append(", \"aiAnalysis\": \"").append(BenchmarkFixtures.text(300)).append('"')
+                    .append(", \"strengths\": [\"Relevant experience\", \"Competitive budget\", \"Clear plan\"]")
+                    .append(", \"concerns\": [\"Tight timeline\"]}");
+        }
+        return text.append("]\n```\n").toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.model.Project;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO conversion for project listings, and the skill tag derivation run on
+ * every project write (the replacement for the old skills JSON parsing)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectConversionBenchmark {
+
+    @Param({"20", "200"})
+    public int projectCount;
+
+    private List<Project> projects;
+    private List<List<String>> skillLists;
+
+    @Setup
+    public void setUp() {
+        projects = BenchmarkFixtures.projects(projectCount, 2000);
+        Random random = new Random(11);
+        skillLists = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            skillLists.add(BenchmarkFixtures.skills(random, 3 + random.nextInt(6)));
+        }
+    }
+
+    @Benchmark
+    public List<ProjectDTO> convertListing() {
+        List<ProjectDTO> dtos = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            dtos.add(ProjectService.convertToDTO(project, 12));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public void deriveSkillTags(Blackhole blackhole) {
+        Project project = new Project();
+        for (List<String> skills : skillLists) {
+            project.setRequiredSkills(skills);
+            blackhole.consume(project.getSkillTags());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String building for the recommendation and ranking prompts sent to Gemini
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromptBuildingBenchmark {
+
+    // A ranking batch is at most ai.ranking.max-batch-size (15) proposals; 50 covers oversized calls
+    @Param({"15", "50"})
+    public int proposalCount;
+
+    private List<String> freelancerSkills;
+    private List<Project> candidates;
+    private Project project;
+    private List<Proposal> proposals;
+    private ProposalRankingPipeline rankingPipeline;
+
+    @Setup
+    public void setUp() {
+        freelancerSkills = List.of("Java", "Spring Boot", "PostgreSQL", "Docker", "AWS");
+        candidates = BenchmarkFixtures.projects(20, 1500);
+        project = candidates.get(0);
+        proposals = BenchmarkFixtures.proposals(project, proposalCount, 1500);
+
+        rankingPipeline = new ProposalRankingPipeline(null, null);
+        ReflectionTestUtils.setField(rankingPipeline, "maxCoverLetterChars", 2000);
+    }
+
+    @Benchmark
+    public String recommendationPrompt() {
+        return AIService.buildRecommendationPrompt(freelancerSkills, "Backend engineer, 8 years of JVM work", candidates);
+    }
+
+    @Benchmark
+    public String rankingPrompt() {
+        return rankingPipeline.buildRankingPrompt(project, proposals);
+    }
+}
@@ -1,7 +1,11 @@
 package com.freelancenexus.freelancer.controller;
 
+import com.freelancenexus.freelancer.dto.FreelancerCursorPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerDTO;
+import com.freelancenexus.freelancer.dto.FreelancerPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerProfileDTO;
+import com.freelancenexus.freelancer.dto.FreelancerSearchCriteria;
+import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
 import com.freelancenexus.freelancer.service.FreelancerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -74,13 +78,15 @@ public class FreelancerController {
             @RequestParam(required = false) BigDecimal maxRate,
             @RequestParam(required = false) BigDecimal minRating,
             @RequestParam(required = false) String availability,
-            @RequestParam(required = false) List<String> skills) {
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "false") boolean matchAll,
+            @RequestParam(required = false) ProficiencyLevel minProficiency) {
         log.info("REST request to search freelancers");
         
         List<FreelancerDTO> freelancers;
         
         if (skills != null && !skills.isEmpty()) {
-            freelancers = freelancerService.getFreelancersBySkills(skills);
+            freelancers = freelancerService.getFreelancersBySkills(skills, matchAll, minProficiency);
         } else if (minRate != null || maxRate != null || minRating != null || availability != null) {
             freelancers = freelancerService.searchFreelancers(minRate, maxRate, minRating, availability);
         } else {
@@ -89,4 +95,27 @@ public class FreelancerController {
         
         return ResponseEntity.ok(freelancers);
     }
-}
\ No newline at end of file
+    
+    // Paginated variant of the filtered listing
+    @GetMapping("/page")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<FreelancerPageDTO> searchFreelancersPage(
+            @RequestParam(required = false) BigDecimal minRate,
+            @RequestParam(required = false) BigDecimal maxRate,
+            @RequestParam(required = false) BigDecimal minRating,
+            @RequestParam(required = false) String availability,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        log.info("REST request to get freelancer page {} with size {}", page, size);
+        return ResponseEntity.ok(freelancerService.searchFreelancersPage(
+            minRate, maxRate, minRating, availability, page, size));
+    }
+    
+    // Filtered, sorted search paged by an opaque cursor: ?sort=SCORE&direction=DESC&limit=20&cursor=...
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<FreelancerCursorPageDTO> searchFreelancersByCursor(FreelancerSearchCriteria criteria) {
+        log.info("REST request to search freelancers: {}", criteria);
+        return ResponseEntity.ok(freelancerService.searchFreelancers(criteria));
+    }
+}
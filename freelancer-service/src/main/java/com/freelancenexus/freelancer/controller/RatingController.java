@@ -1,6 +1,7 @@
 package com.freelancenexus.freelancer.controller;
 
 import com.freelancenexus.freelancer.dto.RatingDTO;
+import com.freelancenexus.freelancer.dto.RatingDistributionDTO;
 import com.freelancenexus.freelancer.service.RatingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -38,4 +39,12 @@ public class RatingController {
         List<RatingDTO> ratings = ratingService.getFreelancerRatings(id);
         return ResponseEntity.ok(ratings);
     }
-}
\ No newline at end of file
+    
+    // Star histogram and Bayesian score for a freelancer
+    @GetMapping("/{id}/ratings/distribution")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RatingDistributionDTO> getRatingDistribution(@PathVariable Long id) {
+        log.info("REST request to get rating distribution for freelancer ID: {}", id);
+        return ResponseEntity.ok(ratingService.getRatingDistribution(id));
+    }
+}
@@ -0,0 +1,16 @@
+package com.freelancenexus.freelancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreelancerCursorPageDTO {
+    private List<FreelancerDTO> items;
+    private String nextCursor; // opaque keyset cursor, null on the last page
+    private boolean hasMore;
+}
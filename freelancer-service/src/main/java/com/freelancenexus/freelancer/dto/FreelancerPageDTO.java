@@ -0,0 +1,22 @@
+package com.freelancenexus.freelancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of freelancers with enough metadata to request the next one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreelancerPageDTO {
+    
+    private List<FreelancerDTO> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasMore;
+}
@@ -0,0 +1,27 @@
+package com.freelancenexus.freelancer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Query parameters of the keyset-paginated freelancer search; every filter is optional
+ */
+@Data
+@NoArgsConstructor
+public class FreelancerSearchCriteria {
+    
+    private BigDecimal minRate;
+    private BigDecimal maxRate;
+    private BigDecimal minRating;
+    private String availability;
+    private List<String> skills;
+    private boolean matchAll;
+    private FreelancerSortField sort = FreelancerSortField.SCORE;
+    private Sort.Direction direction = Sort.Direction.DESC;
+    private Integer limit;
+    private String cursor; // opaque value from the previous page's nextCursor
+}
@@ -0,0 +1,22 @@
+package com.freelancenexus.freelancer.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * Columns freelancer search can be ordered by, with the parser for their keyset cursor values
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FreelancerSortField {
+    SCORE("bayesianScore", BigDecimal::new),
+    RATING("averageRating", BigDecimal::new),
+    HOURLY_RATE("hourlyRate", BigDecimal::new),
+    COMPLETED_PROJECTS("completedProjects", Integer::valueOf);
+
+    private final String property;
+    private final Function<String, Comparable<?>> cursorValueParser;
+}
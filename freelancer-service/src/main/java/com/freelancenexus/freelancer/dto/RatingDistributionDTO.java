@@ -0,0 +1,19 @@
+package com.freelancenexus.freelancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingDistributionDTO {
+    private Long freelancerId;
+    private Integer ratingCount;
+    private BigDecimal averageRating;
+    private BigDecimal bayesianScore;
+    private Map<Integer, Integer> starCounts; // stars (1-5) -> number of ratings
+}
@@ -0,0 +1,29 @@
+package com.freelancenexus.freelancer.event;
+
+import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * In-process application event raised when a freelancer's skill set is written.
+ * Carries the complete new skill set so listeners do not have to reload it.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class FreelancerSkillsChangedEvent {
+
+    private final Long freelancerId;
+    private final List<SkillEntry> skills;
+
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class SkillEntry {
+        private final String skillName;
+        private final ProficiencyLevel proficiencyLevel;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -42,10 +43,41 @@ public class Freelancer {
     @Column(name = "completed_projects")
     private Integer completedProjects = 0;
     
-    @Column(name = "average_rating", precision = 3, scale = 2)
+    // Rating columns are written only by the repository's UPDATE statements; updatable = false keeps
+    // the entity's full-row update from overwriting them with stale values
+    @Column(name = "average_rating", precision = 3, scale = 2, updatable = false)
     private BigDecimal averageRating = BigDecimal.ZERO;
     
+    // Running rating aggregates, updated in place with each new rating; averageRating = ratingSum / ratingCount
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    private Integer ratingCount = 0;
+    
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum = 0L;
+    
+    // Star histogram, maintained alongside the running aggregates
+    @Column(name = "rating_1_count", nullable = false, updatable = false)
+    private Integer rating1Count = 0;
+    
+    @Column(name = "rating_2_count", nullable = false, updatable = false)
+    private Integer rating2Count = 0;
+    
+    @Column(name = "rating_3_count", nullable = false, updatable = false)
+    private Integer rating3Count = 0;
+    
+    @Column(name = "rating_4_count", nullable = false, updatable = false)
+    private Integer rating4Count = 0;
+    
+    @Column(name = "rating_5_count", nullable = false, updatable = false)
+    private Integer rating5Count = 0;
+    
+    // Precomputed Bayesian-weighted rating used to order search results
+    @Column(name = "bayesian_score", nullable = false, precision = 4, scale = 3, updatable = false)
+    private BigDecimal bayesianScore = BigDecimal.ZERO;
+    
+    // Lazy skill loads for a page of freelancers are issued as one IN query per batch
     @OneToMany(mappedBy = "freelancer", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<Skill> skills = new ArrayList<>();
     
     @OneToMany(mappedBy = "freelancer", cascade = CascadeType.ALL, orphanRemoval = true)
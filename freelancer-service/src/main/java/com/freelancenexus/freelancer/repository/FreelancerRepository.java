@@ -1,13 +1,19 @@
 package com.freelancenexus.freelancer.repository;
 
 import com.freelancenexus.freelancer.model.Freelancer;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,8 +30,12 @@ public interface FreelancerRepository extends JpaRepository<Freelancer, Long>, J
     @Query("SELECT f FROM Freelancer f LEFT JOIN FETCH f.skills LEFT JOIN FETCH f.portfolios WHERE f.id = :id")
     Optional<Freelancer> findByIdWithDetails(@Param("id") Long id);
     
-    @Query("SELECT DISTINCT f FROM Freelancer f JOIN f.skills s WHERE LOWER(s.skillName) IN :skills")
-    List<Freelancer> findBySkills(@Param("skills") List<String> skills);
+    @Query("SELECT DISTINCT f FROM Freelancer f LEFT JOIN FETCH f.skills WHERE f.id IN :ids")
+    List<Freelancer> findAllByIdInWithSkills(@Param("ids") Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = "skills")
+    @Query("SELECT f FROM Freelancer f ORDER BY f.id")
+    List<Freelancer> findAllWithSkills();
     
     List<Freelancer> findByAvailability(String availability);
     
@@ -33,15 +43,71 @@ public interface FreelancerRepository extends JpaRepository<Freelancer, Long>, J
     
     List<Freelancer> findByAverageRatingGreaterThanEqual(BigDecimal minRating);
     
-    @Query("SELECT f FROM Freelancer f WHERE " +
-           "(:minRate IS NULL OR f.hourlyRate >= :minRate) AND " +
-           "(:maxRate IS NULL OR f.hourlyRate <= :maxRate) AND " +
-           "(:minRating IS NULL OR f.averageRating >= :minRating) AND " +
-           "(:availability IS NULL OR f.availability = :availability)")
-    List<Freelancer> searchFreelancers(
-        @Param("minRate") BigDecimal minRate,
-        @Param("maxRate") BigDecimal maxRate,
-        @Param("minRating") BigDecimal minRating,
-        @Param("availability") String availability
-    );
-}
\ No newline at end of file
+    /**
+     * Specification search for unbounded listings, loading skills in the same query. Paged
+     * specification queries go through the inherited methods and batch-load skills instead.
+     */
+    @Override
+    @EntityGraph(attributePaths = "skills")
+    List<Freelancer> findAll(Specification<Freelancer> spec, Sort sort);
+    
+    /**
+     * Fold one new rating into the running aggregates, star histogram and Bayesian score with a
+     * single row update; the right-hand sides see the pre-update values. Returns 0 when the
+     * freelancer does not exist.
+     */
+    @Modifying
+    @Query(value = "UPDATE freelancers SET " +
+                   "rating_sum = rating_sum + :rating, " +
+                   "rating_count = rating_count + 1, " +
+                   "average_rating = ROUND(CAST(rating_sum + :rating AS NUMERIC) / (rating_count + 1), 2), " +
+                   "rating_1_count = rating_1_count + CASE WHEN :rating = 1 THEN 1 ELSE 0 END, " +
+                   "rating_2_count = rating_2_count + CASE WHEN :rating = 2 THEN 1 ELSE 0 END, " +
+                   "rating_3_count = rating_3_count + CASE WHEN :rating = 3 THEN 1 ELSE 0 END, " +
+                   "rating_4_count = rating_4_count + CASE WHEN :rating = 4 THEN 1 ELSE 0 END, " +
+                   "rating_5_count = rating_5_count + CASE WHEN :rating = 5 THEN 1 ELSE 0 END, " +
+                   "bayesian_score = ROUND((:priorWeight * :priorMean + rating_sum + :rating) " +
+                   "                       / (:priorWeight + rating_count + 1), 3), " +
+                   "updated_at = NOW() " +
+                   "WHERE id = :id", nativeQuery = true)
+    int addToRatingAggregates(@Param("id") Long id,
+                              @Param("rating") int rating,
+                              @Param("priorMean") BigDecimal priorMean,
+                              @Param("priorWeight") int priorWeight);
+    
+    /**
+     * Recompute the rating aggregates, histogram and Bayesian score of freelancers with ids in
+     * (afterId, upToId] from the ratings table, rewriting only rows that have drifted (including
+     * scores computed under a previous prior). Returns the number corrected.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE freelancers f SET " +
+                   "rating_count = a.rating_count, rating_sum = a.rating_sum, average_rating = a.average_rating, " +
+                   "rating_1_count = a.rating_1_count, rating_2_count = a.rating_2_count, " +
+                   "rating_3_count = a.rating_3_count, rating_4_count = a.rating_4_count, " +
+                   "rating_5_count = a.rating_5_count, bayesian_score = a.bayesian_score " +
+                   "FROM (SELECT fr.id, COUNT(r.id) AS rating_count, COALESCE(SUM(r.rating), 0) AS rating_sum, " +
+                   "             COALESCE(ROUND(AVG(r.rating), 2), 0) AS average_rating, " +
+                   "             COUNT(r.id) FILTER (WHERE r.rating = 1) AS rating_1_count, " +
+                   "             COUNT(r.id) FILTER (WHERE r.rating = 2) AS rating_2_count, " +
+                   "             COUNT(r.id) FILTER (WHERE r.rating = 3) AS rating_3_count, " +
+                   "             COUNT(r.id) FILTER (WHERE r.rating = 4) AS rating_4_count, " +
+                   "             COUNT(r.id) FILTER (WHERE r.rating = 5) AS rating_5_count, " +
+                   "             ROUND((:priorWeight * :priorMean + COALESCE(SUM(r.rating), 0)) " +
+                   "                   / (:priorWeight + COUNT(r.id)), 3) AS bayesian_score " +
+                   "      FROM freelancers fr LEFT JOIN ratings r ON r.freelancer_id = fr.id " +
+                   "      WHERE fr.id > :afterId AND fr.id <= :upToId GROUP BY fr.id) a " +
+                   "WHERE f.id = a.id AND " +
+                   "(f.rating_count, f.rating_sum, f.average_rating, f.rating_1_count, f.rating_2_count, " +
+                   " f.rating_3_count, f.rating_4_count, f.rating_5_count, f.bayesian_score) IS DISTINCT FROM " +
+                   "(a.rating_count, a.rating_sum, a.average_rating, a.rating_1_count, a.rating_2_count, " +
+                   " a.rating_3_count, a.rating_4_count, a.rating_5_count, a.bayesian_score)", nativeQuery = true)
+    int reconcileRatingAggregates(@Param("afterId") long afterId,
+                                  @Param("upToId") long upToId,
+                                  @Param("priorMean") BigDecimal priorMean,
+                                  @Param("priorWeight") int priorWeight);
+    
+    @Query("SELECT COALESCE(MAX(f.id), 0) FROM Freelancer f")
+    long findMaxId();
+}
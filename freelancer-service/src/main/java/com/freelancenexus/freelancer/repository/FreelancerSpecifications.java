@@ -0,0 +1,87 @@
+package com.freelancenexus.freelancer.repository;
+
+import com.freelancenexus.freelancer.model.Freelancer;
+import com.freelancenexus.freelancer.model.Skill;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Composable predicates for freelancer search. Callers add only the filters that are present,
+ * so the generated SQL carries no {@code :param IS NULL OR ...} branches and can use the indexes.
+ */
+public final class FreelancerSpecifications {
+
+    private FreelancerSpecifications() {
+    }
+
+    public static Specification<Freelancer> hourlyRateAtLeast(BigDecimal minRate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("hourlyRate"), minRate);
+    }
+
+    public static Specification<Freelancer> hourlyRateAtMost(BigDecimal maxRate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("hourlyRate"), maxRate);
+    }
+
+    public static Specification<Freelancer> averageRatingAtLeast(BigDecimal minRating) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("averageRating"), minRating);
+    }
+
+    public static Specification<Freelancer> hasAvailability(String availability) {
+        return (root, query, cb) -> cb.equal(root.get("availability"), availability);
+    }
+
+    public static Specification<Freelancer> hasValue(String property) {
+        return (root, query, cb) -> cb.isNotNull(root.get(property));
+    }
+
+    /**
+     * Freelancer lists a skill with the given lower-cased name. An EXISTS subquery rather than a
+     * join, so rows are not multiplied and no DISTINCT is needed.
+     */
+    public static Specification<Freelancer> hasSkill(String lowerCaseName) {
+        return (root, query, cb) -> {
+            Subquery<Long> skills = query.subquery(Long.class);
+            Root<Skill> skill = skills.from(Skill.class);
+            skills.select(skill.get("id")).where(
+                cb.equal(skill.get("freelancer"), root),
+                cb.equal(cb.lower(skill.<String>get("skillName")), lowerCaseName));
+            return cb.exists(skills);
+        };
+    }
+
+    /**
+     * Freelancer lists at least one skill whose lower-cased name is in the given set
+     */
+    public static Specification<Freelancer> hasAnySkill(Collection<String> lowerCaseNames) {
+        return (root, query, cb) -> {
+            Subquery<Long> skills = query.subquery(Long.class);
+            Root<Skill> skill = skills.from(Skill.class);
+            skills.select(skill.get("id")).where(
+                cb.equal(skill.get("freelancer"), root),
+                cb.lower(skill.<String>get("skillName")).in(lowerCaseNames));
+            return cb.exists(skills);
+        };
+    }
+
+    /**
+     * Keyset condition: rows strictly after ({@code value}, {@code id}) in the order
+     * {@code property direction, id direction}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Freelancer> after(String property, Sort.Direction direction, Comparable value, Long id) {
+        return (root, query, cb) -> {
+            Path<Comparable> sortPath = root.get(property);
+            Path<Long> idPath = root.get("id");
+            Predicate beyond = direction.isAscending() ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value);
+            Predicate tieBreak = direction.isAscending() ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            return cb.or(beyond, cb.and(cb.equal(sortPath, value), tieBreak));
+        };
+    }
+}
@@ -3,8 +3,11 @@ package com.freelancenexus.freelancer.repository;
 import com.freelancenexus.freelancer.model.Skill;
 import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,4 +20,34 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     boolean existsByFreelancerIdAndSkillNameIgnoreCase(Long freelancerId, String skillName);
     
     void deleteByFreelancerId(Long freelancerId);
+
+    /**
+     * Every skill row as (freelancer id, name, level), for loading the in-memory skill index
+     */
+    @Query("SELECT s.freelancer.id AS freelancerId, s.skillName AS skillName, " +
+           "s.proficiencyLevel AS proficiencyLevel FROM Skill s")
+    List<SkillIndexRow> findAllIndexRows();
+    
+    /**
+     * Ids of freelancers holding at least {@code minMatches} of the given lower-cased skills,
+     * most matches first. Served by the LOWER(skill_name) index while the in-memory index loads.
+     */
+    @Query("SELECT s.freelancer.id FROM Skill s " +
+           "WHERE LOWER(s.skillName) IN :skills " +
+           "AND (:anyLevel = true OR s.proficiencyLevel IN :levels) " +
+           "GROUP BY s.freelancer.id " +
+           "HAVING COUNT(DISTINCT LOWER(s.skillName)) >= :minMatches " +
+           "ORDER BY COUNT(DISTINCT LOWER(s.skillName)) DESC, s.freelancer.id")
+    List<Long> findFreelancerIdsBySkills(
+        @Param("skills") Collection<String> skills,
+        @Param("anyLevel") boolean anyLevel,
+        @Param("levels") Collection<ProficiencyLevel> levels,
+        @Param("minMatches") long minMatches
+    );
+    
+    interface SkillIndexRow {
+        Long getFreelancerId();
+        String getSkillName();
+        ProficiencyLevel getProficiencyLevel();
+    }
 }
\ No newline at end of file
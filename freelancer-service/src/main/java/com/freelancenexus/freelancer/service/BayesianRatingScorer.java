@@ -0,0 +1,32 @@
+package com.freelancenexus.freelancer.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Bayesian-weighted rating: every freelancer starts with {@code priorWeight} virtual ratings of
+ * {@code priorMean}, so a handful of reviews moves the score much less than a long track record.
+ * The same prior is passed to the SQL that maintains the precomputed score column.
+ */
+@Component
+@Getter
+public class BayesianRatingScorer {
+
+    private final BigDecimal priorMean;
+    private final int priorWeight;
+
+    public BayesianRatingScorer(@Value("${ratings.bayesian.prior-mean:3.5}") BigDecimal priorMean,
+                                @Value("${ratings.bayesian.prior-weight:5}") int priorWeight) {
+        this.priorMean = priorMean;
+        this.priorWeight = Math.max(1, priorWeight);
+    }
+
+    public BigDecimal score(long ratingSum, long ratingCount) {
+        BigDecimal weightedTotal = priorMean.multiply(BigDecimal.valueOf(priorWeight)).add(BigDecimal.valueOf(ratingSum));
+        return weightedTotal.divide(BigDecimal.valueOf(priorWeight + ratingCount), 3, RoundingMode.HALF_UP);
+    }
+}
@@ -1,24 +1,45 @@
 package com.freelancenexus.freelancer.service;
 
+import com.freelancenexus.freelancer.dto.FreelancerCursorPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerDTO;
+import com.freelancenexus.freelancer.dto.FreelancerPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerProfileDTO;
+import com.freelancenexus.freelancer.dto.FreelancerSearchCriteria;
+import com.freelancenexus.freelancer.dto.FreelancerSortField;
 import com.freelancenexus.freelancer.dto.PortfolioDTO;
 import com.freelancenexus.freelancer.dto.RatingDTO;
 import com.freelancenexus.freelancer.dto.SkillDTO;
+import com.freelancenexus.freelancer.event.FreelancerSkillsChangedEvent;
 import com.freelancenexus.freelancer.exception.FreelancerAlreadyExistsException;
 import com.freelancenexus.freelancer.exception.ResourceNotFoundException;
 import com.freelancenexus.freelancer.model.Freelancer;
 import com.freelancenexus.freelancer.model.Skill;
+import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
 import com.freelancenexus.freelancer.repository.FreelancerRepository;
-import com.freelancenexus.freelancer.repository.RatingRepository;
+import com.freelancenexus.freelancer.repository.FreelancerSpecifications;
+import com.freelancenexus.freelancer.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,9 +48,15 @@ import org.slf4j.LoggerFactory;
 @RequiredArgsConstructor
 @Slf4j
 public class FreelancerService {
+    
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final FreelancerRepository freelancerRepository;
-    private final RatingRepository ratingRepository;
+    private final SkillRepository skillRepository;
+    private final FreelancerSkillIndex skillIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BayesianRatingScorer ratingScorer;
     
     @Transactional
     public FreelancerDTO createFreelancer(FreelancerDTO freelancerDTO) {
@@ -40,6 +67,8 @@ public class FreelancerService {
         }
         
         Freelancer freelancer = mapToEntity(freelancerDTO);
+        // Unrated profiles rank at the prior until reviews arrive
+        freelancer.setBayesianScore(ratingScorer.score(0, 0));
         
         // Add skills if provided
         if (freelancerDTO.getSkills() != null) {
@@ -54,6 +83,7 @@ public class FreelancerService {
         
         Freelancer saved = freelancerRepository.save(freelancer);
         log.info("Freelancer profile created with ID: {}", saved.getId());
+        publishSkillsChanged(saved);
         
         return mapToDTO(saved);
     }
@@ -118,6 +148,9 @@ public class FreelancerService {
         
         Freelancer updated = freelancerRepository.save(freelancer);
         log.info("Freelancer updated successfully: {}", id);
+        if (freelancerDTO.getSkills() != null) {
+            publishSkillsChanged(updated);
+        }
         
         return mapToDTO(updated);
     }
@@ -128,49 +161,220 @@ public class FreelancerService {
         log.info("Searching freelancers with filters - minRate: {}, maxRate: {}, minRating: {}, availability: {}", 
                  minRate, maxRate, minRating, availability);
         
-        List<Freelancer> freelancers = freelancerRepository.searchFreelancers(minRate, maxRate, minRating, availability);
+        List<Freelancer> freelancers = freelancerRepository.findAll(
+            Specification.allOf(filters(minRate, maxRate, minRating, availability)), Sort.by("id"));
         
         return freelancers.stream()
             .map(this::mapToDTO)
             .collect(Collectors.toList());
     }
     
+    /**
+     * One page of freelancers matching the filters, ordered by id. LIMIT/OFFSET stay in SQL and
+     * the page's skills are batch-loaded rather than fetch-joined.
+     */
     @Transactional(readOnly = true)
-    public List<FreelancerDTO> getFreelancersBySkills(List<String> skills) {
-        log.info("Finding freelancers with skills: {}", skills);
+    public FreelancerPageDTO searchFreelancersPage(BigDecimal minRate, BigDecimal maxRate, BigDecimal minRating,
+                                                   String availability, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : Math.max(0, page);
+        int pageSize = clampPageSize(size);
+        log.info("Fetching freelancer page {} with size {}", pageNumber, pageSize);
         
-        List<String> lowerCaseSkills = skills.stream()
-            .map(String::toLowerCase)
+        Page<Freelancer> freelancers = freelancerRepository.findAll(
+            Specification.allOf(filters(minRate, maxRate, minRating, availability)),
+            PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+        
+        List<FreelancerDTO> content = freelancers.getContent().stream()
+            .map(this::mapToDTO)
             .collect(Collectors.toList());
+        return new FreelancerPageDTO(content, pageNumber, pageSize,
+            freelancers.getTotalElements(), freelancers.hasNext());
+    }
+    
+    /**
+     * Keyset-paginated search ordered by the chosen column, then id. Only the filters that are set
+     * become predicates and skill filters run in the same query. Freelancers without a value for
+     * the sort column have no position in the order and are left out.
+     */
+    @Transactional(readOnly = true)
+    public FreelancerCursorPageDTO searchFreelancers(FreelancerSearchCriteria criteria) {
+        int pageLimit = clampPageSize(criteria.getLimit());
+        FreelancerSortField sortField = criteria.getSort() != null ? criteria.getSort() : FreelancerSortField.SCORE;
+        Sort.Direction direction = criteria.getDirection() != null ? criteria.getDirection() : Sort.Direction.DESC;
+        log.info("Searching freelancers by {} {} with limit: {} and cursor: {}",
+                 sortField, direction, pageLimit, criteria.getCursor());
         
-        List<Freelancer> freelancers = freelancerRepository.findBySkills(lowerCaseSkills);
+        List<Specification<Freelancer>> predicates = filters(
+            criteria.getMinRate(), criteria.getMaxRate(), criteria.getMinRating(), criteria.getAvailability());
+        Set<String> skills = FreelancerSkillIndex.normalize(criteria.getSkills());
+        if (!skills.isEmpty()) {
+            if (criteria.isMatchAll()) {
+                skills.forEach(skill -> predicates.add(FreelancerSpecifications.hasSkill(skill)));
+            } else {
+                predicates.add(FreelancerSpecifications.hasAnySkill(skills));
+            }
+        }
+        predicates.add(FreelancerSpecifications.hasValue(sortField.getProperty()));
+        if (criteria.getCursor() != null && !criteria.getCursor().isEmpty()) {
+            String[] parts = decodeCursor(criteria.getCursor());
+            predicates.add(FreelancerSpecifications.after(sortField.getProperty(), direction,
+                sortField.getCursorValueParser().apply(parts[0]), Long.valueOf(parts[1])));
+        }
         
-        return freelancers.stream()
+        // Fetch one extra row to learn whether another page exists without a count query
+        Sort sort = Sort.by(direction, sortField.getProperty(), "id");
+        List<Freelancer> freelancers = freelancerRepository.findBy(Specification.allOf(predicates),
+            query -> query.sortBy(sort).limit(pageLimit + 1).all());
+        
+        boolean hasMore = freelancers.size() > pageLimit;
+        if (hasMore) {
+            freelancers = freelancers.subList(0, pageLimit);
+        }
+        
+        String nextCursor = null;
+        if (hasMore) {
+            Freelancer last = freelancers.get(freelancers.size() - 1);
+            nextCursor = encodeCursor(sortValue(last, sortField), last.getId());
+        }
+        
+        List<FreelancerDTO> items = freelancers.stream()
             .map(this::mapToDTO)
             .collect(Collectors.toList());
+        return new FreelancerCursorPageDTO(items, nextCursor, hasMore);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<FreelancerDTO> getFreelancersBySkills(List<String> skills) {
+        return getFreelancersBySkills(skills, false, null);
+    }
+    
+    /**
+     * Freelancers with any (or, with {@code matchAll}, all) of the given skills at
+     * {@code minProficiency} or above, ranked by the number of matching skills
+     */
+    @Transactional(readOnly = true)
+    public List<FreelancerDTO> getFreelancersBySkills(List<String> skills, boolean matchAll,
+                                                      ProficiencyLevel minProficiency) {
+        log.info("Finding freelancers with skills: {} (matchAll: {}, minProficiency: {})",
+                 skills, matchAll, minProficiency);
+        
+        Set<String> names = FreelancerSkillIndex.normalize(skills);
+        if (names.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        List<Long> rankedIds;
+        if (skillIndex.isReady()) {
+            rankedIds = skillIndex.search(names, matchAll, minProficiency);
+        } else {
+            List<ProficiencyLevel> levels = minProficiency == null
+                ? Arrays.asList(ProficiencyLevel.values())
+                : Arrays.asList(ProficiencyLevel.values()).subList(minProficiency.ordinal(), ProficiencyLevel.values().length);
+            rankedIds = skillRepository.findFreelancerIdsBySkills(
+                names, minProficiency == null, levels, matchAll ? names.size() : 1);
+        }
+        return loadInOrder(rankedIds);
     }
     
     @Transactional(readOnly = true)
     public List<FreelancerDTO> getAllFreelancers() {
         log.info("Fetching all freelancers");
-        return freelancerRepository.findAll().stream()
+        return freelancerRepository.findAllWithSkills().stream()
             .map(this::mapToDTO)
             .collect(Collectors.toList());
     }
     
+    /**
+     * Recompute one freelancer's rating aggregates from the ratings table. New ratings keep them
+     * current incrementally; this repairs a single profile between scheduled reconciliations.
+     */
     @Transactional
     public void updateFreelancerStats(Long freelancerId) {
         log.info("Updating stats for freelancer: {}", freelancerId);
         
-        Freelancer freelancer = freelancerRepository.findById(freelancerId)
-            .orElseThrow(() -> new ResourceNotFoundException("Freelancer not found with ID: " + freelancerId));
-        
-        // Recalculate average rating
-        BigDecimal avgRating = ratingRepository.calculateAverageRating(freelancerId);
-        freelancer.setAverageRating(avgRating != null ? avgRating : BigDecimal.ZERO);
+        if (!freelancerRepository.existsById(freelancerId)) {
+            throw new ResourceNotFoundException("Freelancer not found with ID: " + freelancerId);
+        }
         
-        freelancerRepository.save(freelancer);
-        log.info("Stats updated for freelancer: {}", freelancerId);
+        int corrected = freelancerRepository.reconcileRatingAggregates(freelancerId - 1, freelancerId,
+            ratingScorer.getPriorMean(), ratingScorer.getPriorWeight());
+        log.info("Stats updated for freelancer: {} (corrected: {})", freelancerId, corrected > 0);
+    }
+    
+    /**
+     * Map the given freelancers in the given order, loading them and their skills in one query
+     */
+    private List<FreelancerDTO> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Freelancer> byId = freelancerRepository.findAllByIdInWithSkills(ids).stream()
+            .collect(Collectors.toMap(Freelancer::getId, Function.identity()));
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .map(this::mapToDTO)
+            .collect(Collectors.toList());
+    }
+    
+    private static List<Specification<Freelancer>> filters(BigDecimal minRate, BigDecimal maxRate,
+                                                           BigDecimal minRating, String availability) {
+        List<Specification<Freelancer>> predicates = new ArrayList<>();
+        if (minRate != null) {
+            predicates.add(FreelancerSpecifications.hourlyRateAtLeast(minRate));
+        }
+        if (maxRate != null) {
+            predicates.add(FreelancerSpecifications.hourlyRateAtMost(maxRate));
+        }
+        if (minRating != null) {
+            predicates.add(FreelancerSpecifications.averageRatingAtLeast(minRating));
+        }
+        if (availability != null && !availability.isEmpty()) {
+            predicates.add(FreelancerSpecifications.hasAvailability(availability));
+        }
+        return predicates;
+    }
+    
+    private static int clampPageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+    
+    private static Object sortValue(Freelancer freelancer, FreelancerSortField sortField) {
+        return switch (sortField) {
+            case SCORE -> freelancer.getBayesianScore();
+            case RATING -> freelancer.getAverageRating();
+            case HOURLY_RATE -> freelancer.getHourlyRate();
+            case COMPLETED_PROJECTS -> freelancer.getCompletedProjects();
+        };
+    }
+    
+    private static String encodeCursor(Object sortValue, Long id) {
+        String value = sortValue instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(sortValue);
+        String raw = value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+    
+    private void publishSkillsChanged(Freelancer freelancer) {
+        List<FreelancerSkillsChangedEvent.SkillEntry> entries = new ArrayList<>();
+        if (freelancer.getSkills() != null) {
+            for (Skill skill : freelancer.getSkills()) {
+                entries.add(new FreelancerSkillsChangedEvent.SkillEntry(skill.getSkillName(), skill.getProficiencyLevel()));
+            }
+        }
+        eventPublisher.publishEvent(new FreelancerSkillsChangedEvent(freelancer.getId(), entries));
     }
     
     private FreelancerDTO mapToDTO(Freelancer freelancer) {
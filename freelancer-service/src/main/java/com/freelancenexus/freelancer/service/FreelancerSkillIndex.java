@@ -0,0 +1,245 @@
+package com.freelancenexus.freelancer.service;
+
+import com.freelancenexus.freelancer.event.FreelancerSkillsChangedEvent;
+import com.freelancenexus.freelancer.event.FreelancerSkillsChangedEvent.SkillEntry;
+import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
+import com.freelancenexus.freelancer.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index from lower-cased skill name to the ids of the freelancers who list it,
+ * kept as one bitmap per proficiency level so AND/OR queries and proficiency filters are set
+ * operations. Loaded once the application is ready, maintained from skill change events and
+ * periodically rebuilt to correct drift; until the first load {@link #isReady()} is false and
+ * callers query the database instead. Events arriving before or during a load are buffered and
+ * replayed on top of it, since the rows read may predate their commit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FreelancerSkillIndex {
+
+    private static final ProficiencyLevel[] LEVELS = ProficiencyLevel.values();
+    private static final int UNSPECIFIED_SLOT = LEVELS.length; // skills saved without a proficiency level
+
+    private final SkillRepository skillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, BitSet[]> postings = new HashMap<>();
+    private Map<Long, List<SkillEntry>> skillsByFreelancer = new HashMap<>();
+    private final List<FreelancerSkillsChangedEvent> pending = new ArrayList<>(); // guarded by the write lock
+    private boolean loading = true; // guarded by the write lock
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${freelancers.skill-index.rebuild-ms:3600000}",
+               initialDelayString = "${freelancers.skill-index.rebuild-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reload the whole index from the skills table, then replay the change events received
+     * while the rows were being read
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            // Anything buffered so far was committed before the read below starts
+            pending.clear();
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, BitSet[]> newPostings = new HashMap<>();
+        Map<Long, List<SkillEntry>> newSkills = new HashMap<>();
+        for (SkillRepository.SkillIndexRow row : skillRepository.findAllIndexRows()) {
+            SkillEntry entry = new SkillEntry(row.getSkillName(), row.getProficiencyLevel());
+            newSkills.computeIfAbsent(row.getFreelancerId(), id -> new ArrayList<>()).add(entry);
+            add(newPostings, row.getFreelancerId(), entry);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            skillsByFreelancer = newSkills;
+            for (FreelancerSkillsChangedEvent event : pending) {
+                applySkills(event.getFreelancerId(), event.getSkills());
+            }
+            pending.clear();
+            loading = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built freelancer skill index with {} freelancers and {} skills", newSkills.size(), newPostings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillsChanged(FreelancerSkillsChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                pending.add(event);
+            } else {
+                applySkills(event.getFreelancerId(), event.getSkills());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Swap a freelancer's indexed skills for the given set
+     */
+    public void replaceSkills(Long freelancerId, List<SkillEntry> skills) {
+        lock.writeLock().lock();
+        try {
+            applySkills(freelancerId, skills);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applySkills(Long freelancerId, List<SkillEntry> skills) {
+        List<SkillEntry> previous = skillsByFreelancer.remove(freelancerId);
+        if (previous != null) {
+            for (SkillEntry entry : previous) {
+                remove(freelancerId, entry);
+            }
+        }
+        if (skills != null && !skills.isEmpty()) {
+            skillsByFreelancer.put(freelancerId, new ArrayList<>(skills));
+            for (SkillEntry entry : skills) {
+                add(postings, freelancerId, entry);
+            }
+        }
+    }
+
+    /**
+     * Ids of freelancers having any (or, with {@code matchAll}, every) of the given skills at
+     * {@code minProficiency} or above (any level when null), ordered by the number of matching
+     * skills, most first, then by id.
+     */
+    public List<Long> search(Collection<String> skills, boolean matchAll, ProficiencyLevel minProficiency) {
+        Set<String> names = normalize(skills);
+        if (names.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<BitSet> perSkill = new ArrayList<>(names.size());
+            for (String name : names) {
+                perSkill.add(holders(name, minProficiency));
+            }
+
+            BitSet candidates = (BitSet) perSkill.get(0).clone();
+            for (BitSet holders : perSkill.subList(1, perSkill.size())) {
+                if (matchAll) {
+                    candidates.and(holders);
+                } else {
+                    candidates.or(holders);
+                }
+            }
+
+            List<long[]> ranked = new ArrayList<>(candidates.cardinality());
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                int matches = 0;
+                for (BitSet holders : perSkill) {
+                    if (holders.get(id)) {
+                        matches++;
+                    }
+                }
+                ranked.add(new long[]{id, matches});
+            }
+            // Bits are visited in id order, so a stable sort keeps ties ascending by id
+            ranked.sort((a, b) -> Long.compare(b[1], a[1]));
+            return ranked.stream().map(entry -> entry[0]).collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-cased, trimmed, de-duplicated skill names in request order
+     */
+    static Set<String> normalize(Collection<String> skills) {
+        if (skills == null) {
+            return Collections.emptySet();
+        }
+        return skills.stream()
+            .filter(Objects::nonNull)
+            .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+            .filter(skill -> !skill.isEmpty())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private BitSet holders(String name, ProficiencyLevel minProficiency) {
+        BitSet result = new BitSet();
+        BitSet[] slots = postings.get(name);
+        if (slots == null) {
+            return result;
+        }
+        int from = minProficiency != null ? minProficiency.ordinal() : 0;
+        int to = minProficiency != null ? LEVELS.length : UNSPECIFIED_SLOT + 1;
+        for (int slot = from; slot < to; slot++) {
+            if (slots[slot] != null) {
+                result.or(slots[slot]);
+            }
+        }
+        return result;
+    }
+
+    private static void add(Map<String, BitSet[]> target, Long freelancerId, SkillEntry entry) {
+        String name = entry.getSkillName() == null ? "" : entry.getSkillName().trim().toLowerCase(Locale.ROOT);
+        if (name.isEmpty()) {
+            return;
+        }
+        BitSet[] slots = target.computeIfAbsent(name, key -> new BitSet[UNSPECIFIED_SLOT + 1]);
+        int slot = slotOf(entry.getProficiencyLevel());
+        if (slots[slot] == null) {
+            slots[slot] = new BitSet();
+        }
+        slots[slot].set(Math.toIntExact(freelancerId));
+    }
+
+    private void remove(Long freelancerId, SkillEntry entry) {
+        String name = entry.getSkillName() == null ? "" : entry.getSkillName().trim().toLowerCase(Locale.ROOT);
+        BitSet[] slots = postings.get(name);
+        if (slots == null) {
+            return;
+        }
+        BitSet holders = slots[slotOf(entry.getProficiencyLevel())];
+        if (holders != null) {
+            holders.clear(Math.toIntExact(freelancerId));
+        }
+        if (Arrays.stream(slots).allMatch(bits -> bits == null || bits.isEmpty())) {
+            postings.remove(name);
+        }
+    }
+
+    private static int slotOf(ProficiencyLevel level) {
+        return level != null ? level.ordinal() : UNSPECIFIED_SLOT;
+    }
+}
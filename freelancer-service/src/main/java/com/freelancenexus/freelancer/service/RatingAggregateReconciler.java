@@ -0,0 +1,46 @@
+package com.freelancenexus.freelancer.service;
+
+import com.freelancenexus.freelancer.repository.FreelancerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically verifies the running rating aggregates, star histograms and Bayesian scores on
+ * freelancers against the ratings table and rewrites any that have drifted. Works through
+ * freelancer id ranges, one short transaction per range; a rating committed while its range is
+ * being checked is picked up on the next run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RatingAggregateReconciler {
+
+    private final FreelancerRepository freelancerRepository;
+    private final BayesianRatingScorer ratingScorer;
+
+    @Value("${ratings.reconcile.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Reconcile every freelancer and return how many aggregates were corrected
+     */
+    @Scheduled(cron = "${ratings.reconcile.cron:0 30 3 * * *}")
+    public int reconcile() {
+        long maxId = freelancerRepository.findMaxId();
+        int corrected = 0;
+        for (long afterId = 0; afterId < maxId; afterId += batchSize) {
+            corrected += freelancerRepository.reconcileRatingAggregates(afterId, Math.min(afterId + batchSize, maxId),
+                ratingScorer.getPriorMean(), ratingScorer.getPriorWeight());
+        }
+
+        if (corrected > 0) {
+            log.warn("Corrected drifted rating aggregates for {} freelancers", corrected);
+        } else {
+            log.info("Rating aggregates verified for freelancer ids up to {}", maxId);
+        }
+        return corrected;
+    }
+}
@@ -1,6 +1,7 @@
 package com.freelancenexus.freelancer.service;
 
 import com.freelancenexus.freelancer.dto.RatingDTO;
+import com.freelancenexus.freelancer.dto.RatingDistributionDTO;
 import com.freelancenexus.freelancer.exception.DuplicateRatingException;
 import com.freelancenexus.freelancer.exception.ResourceNotFoundException;
 import com.freelancenexus.freelancer.model.Freelancer;
@@ -14,7 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,15 +27,16 @@ public class RatingService {
 
     private final RatingRepository ratingRepository;
     private final FreelancerRepository freelancerRepository;
-    private final FreelancerService freelancerService;
+    private final BayesianRatingScorer ratingScorer;
     
+    /**
+     * Store a rating and fold it into the freelancer's running aggregates, star histogram and
+     * Bayesian score in the same transaction, without aggregating over all of their ratings
+     */
     @Transactional
     public RatingDTO addRating(Long freelancerId, RatingDTO ratingDTO) {
         log.info("Adding rating for freelancer ID: {} by client ID: {}", freelancerId, ratingDTO.getClientId());
         
-        Freelancer freelancer = freelancerRepository.findById(freelancerId)
-            .orElseThrow(() -> new ResourceNotFoundException("Freelancer not found with ID: " + freelancerId));
-        
         // Check if rating already exists for this project
         if (ratingDTO.getProjectId() != null && 
             ratingRepository.existsByFreelancerIdAndClientIdAndProjectId(
@@ -40,15 +44,18 @@ public class RatingService {
             throw new DuplicateRatingException("Rating already exists for this project");
         }
         
+        // Also locks the freelancer row, so concurrent ratings are applied one after another
+        if (freelancerRepository.addToRatingAggregates(freelancerId, ratingDTO.getRating(),
+                ratingScorer.getPriorMean(), ratingScorer.getPriorWeight()) == 0) {
+            throw new ResourceNotFoundException("Freelancer not found with ID: " + freelancerId);
+        }
+        
         Rating rating = mapToEntity(ratingDTO);
-        freelancer.addRating(rating);
+        rating.setFreelancer(freelancerRepository.getReferenceById(freelancerId));
         
         Rating saved = ratingRepository.save(rating);
         log.info("Rating added with ID: {}", saved.getId());
         
-        // Update freelancer's average rating
-        freelancerService.updateFreelancerStats(freelancerId);
-        
         return mapToDTO(saved);
     }
     
@@ -69,15 +76,39 @@ public class RatingService {
     
     @Transactional(readOnly = true)
     public BigDecimal getAverageRating(Long freelancerId) {
-        log.info("Calculating average rating for freelancer ID: {}", freelancerId);
+        log.info("Fetching average rating for freelancer ID: {}", freelancerId);
         
-        BigDecimal average = ratingRepository.calculateAverageRating(freelancerId);
-        return average != null ? average : BigDecimal.ZERO;
+        return freelancerRepository.findById(freelancerId)
+            .map(Freelancer::getAverageRating)
+            .orElse(BigDecimal.ZERO);
     }
     
     @Transactional(readOnly = true)
     public long getRatingCount(Long freelancerId) {
-        return ratingRepository.countByFreelancerId(freelancerId);
+        return freelancerRepository.findById(freelancerId)
+            .map(freelancer -> freelancer.getRatingCount().longValue())
+            .orElse(0L);
+    }
+    
+    /**
+     * Star histogram and scores, read from the freelancer's precomputed columns
+     */
+    @Transactional(readOnly = true)
+    public RatingDistributionDTO getRatingDistribution(Long freelancerId) {
+        log.info("Fetching rating distribution for freelancer ID: {}", freelancerId);
+        
+        Freelancer freelancer = freelancerRepository.findById(freelancerId)
+            .orElseThrow(() -> new ResourceNotFoundException("Freelancer not found with ID: " + freelancerId));
+        
+        Map<Integer, Integer> starCounts = new LinkedHashMap<>();
+        starCounts.put(1, freelancer.getRating1Count());
+        starCounts.put(2, freelancer.getRating2Count());
+        starCounts.put(3, freelancer.getRating3Count());
+        starCounts.put(4, freelancer.getRating4Count());
+        starCounts.put(5, freelancer.getRating5Count());
+        
+        return new RatingDistributionDTO(freelancer.getId(), freelancer.getRatingCount(),
+            freelancer.getAverageRating(), freelancer.getBayesianScore(), starCounts);
     }
     
     private RatingDTO mapToDTO(Rating rating) {
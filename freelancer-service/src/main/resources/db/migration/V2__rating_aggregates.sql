@@ -0,0 +1,19 @@
+-- Flyway V2: Running rating aggregates on freelancers, backfilled from the ratings table.
+-- V1 is the baseline of an existing schema. On a brand-new database Hibernate creates the
+-- tables after Flyway has run, including these columns, so there is nothing to do yet.
+DO $$
+BEGIN
+    IF to_regclass('freelancers') IS NOT NULL THEN
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS rating_count INTEGER NOT NULL DEFAULT 0;
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+
+        IF to_regclass('ratings') IS NOT NULL THEN
+            UPDATE freelancers f
+               SET rating_count = a.rating_count, rating_sum = a.rating_sum
+              FROM (SELECT freelancer_id, COUNT(*) AS rating_count, SUM(rating) AS rating_sum
+                      FROM ratings GROUP BY freelancer_id) a
+             WHERE f.id = a.freelancer_id;
+        END IF;
+    END IF;
+END
+$$;
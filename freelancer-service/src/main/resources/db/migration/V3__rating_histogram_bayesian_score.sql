@@ -0,0 +1,34 @@
+-- Flyway V3: Star histogram and precomputed Bayesian score on freelancers, backfilled from the
+-- ratings table. The backfill uses the default prior (mean 3.5, weight 5); if
+-- ratings.bayesian.* is configured differently, the next reconciliation run rewrites the scores.
+DO $$
+BEGIN
+    IF to_regclass('freelancers') IS NOT NULL THEN
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS rating_1_count INTEGER NOT NULL DEFAULT 0;
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS rating_2_count INTEGER NOT NULL DEFAULT 0;
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS rating_3_count INTEGER NOT NULL DEFAULT 0;
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS rating_4_count INTEGER NOT NULL DEFAULT 0;
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS rating_5_count INTEGER NOT NULL DEFAULT 0;
+        ALTER TABLE freelancers ADD COLUMN IF NOT EXISTS bayesian_score NUMERIC(4, 3) NOT NULL DEFAULT 0;
+
+        IF to_regclass('ratings') IS NOT NULL THEN
+            UPDATE freelancers f
+               SET rating_1_count = a.rating_1_count,
+                   rating_2_count = a.rating_2_count,
+                   rating_3_count = a.rating_3_count,
+                   rating_4_count = a.rating_4_count,
+                   rating_5_count = a.rating_5_count
+              FROM (SELECT freelancer_id,
+                           COUNT(*) FILTER (WHERE rating = 1) AS rating_1_count,
+                           COUNT(*) FILTER (WHERE rating = 2) AS rating_2_count,
+                           COUNT(*) FILTER (WHERE rating = 3) AS rating_3_count,
+                           COUNT(*) FILTER (WHERE rating = 4) AS rating_4_count,
+                           COUNT(*) FILTER (WHERE rating = 5) AS rating_5_count
+                      FROM ratings GROUP BY freelancer_id) a
+             WHERE f.id = a.freelancer_id;
+        END IF;
+
+        UPDATE freelancers SET bayesian_score = ROUND((5 * 3.5 + rating_sum) / (5 + rating_count), 3);
+    END IF;
+END
+$$;
@@ -0,0 +1,43 @@
+-- Runs after every Flyway migrate. Hibernate (ddl-auto=update) owns this schema and creates
+-- tables after Flyway has run, so on a brand-new database the skills table does not exist yet
+-- and the index is created on the next start instead.
+
+-- Case-insensitive skill lookups (LOWER(skill_name) IN ...) used while the in-memory skill
+-- index is loading
+DO $$
+BEGIN
+    IF to_regclass('skills') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_skills_lower_skill_name ON skills (LOWER(skill_name), freelancer_id);
+    END IF;
+END
+$$;
+
+-- Freelancer search: availability filter ordered by rating, and hourly rate ranges/ordering.
+-- The trailing id keeps keyset pagination on (sort column, id) inside the index.
+DO $$
+BEGIN
+    IF to_regclass('freelancers') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_freelancers_availability_rating ON freelancers (availability, average_rating, id);
+        CREATE INDEX IF NOT EXISTS idx_freelancers_hourly_rate ON freelancers (hourly_rate, id);
+    END IF;
+END
+$$;
+
+-- Per-freelancer rating lookups and the rating aggregate reconciliation join
+DO $$
+BEGIN
+    IF to_regclass('ratings') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_ratings_freelancer_id ON ratings (freelancer_id);
+    END IF;
+END
+$$;
+
+-- Search ordered by Bayesian score, overall and within an availability filter
+DO $$
+BEGIN
+    IF to_regclass('freelancers') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_freelancers_bayesian_score ON freelancers (bayesian_score, id);
+        CREATE INDEX IF NOT EXISTS idx_freelancers_availability_score ON freelancers (availability, bayesian_score, id);
+    END IF;
+END
+$$;
@@ -1,15 +1,22 @@
 package com.freelancenexus.freelancer.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.freelancer.dto.FreelancerCursorPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerDTO;
+import com.freelancenexus.freelancer.dto.FreelancerPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerProfileDTO;
+import com.freelancenexus.freelancer.dto.FreelancerSearchCriteria;
+import com.freelancenexus.freelancer.dto.FreelancerSortField;
+import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
 import com.freelancenexus.freelancer.service.FreelancerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -17,6 +24,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -135,14 +143,59 @@ class FreelancerControllerTest {
 
     @Test
     void shouldSearchFreelancersWithSkills() throws Exception {
-        when(freelancerService.getFreelancersBySkills(anyList())).thenReturn(List.of(freelancerDTO));
+        when(freelancerService.getFreelancersBySkills(anyList(), anyBoolean(), any())).thenReturn(List.of(freelancerDTO));
 
         mockMvc.perform(get("/api/freelancers")
-                        .param("skills", "Java", "Spring"))
+                        .param("skills", "Java", "Spring")
+                        .param("matchAll", "true")
+                        .param("minProficiency", "EXPERT"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(freelancerDTO.getId()));
 
-        verify(freelancerService, times(1)).getFreelancersBySkills(anyList());
+        verify(freelancerService, times(1)).getFreelancersBySkills(
+                List.of("Java", "Spring"), true, ProficiencyLevel.EXPERT);
+    }
+
+    @Test
+    void shouldReturnFreelancerPage() throws Exception {
+        when(freelancerService.searchFreelancersPage(any(), any(), any(), any(), any(), any()))
+                .thenReturn(new FreelancerPageDTO(List.of(freelancerDTO), 1, 10, 11, false));
+
+        mockMvc.perform(get("/api/freelancers/page")
+                        .param("availability", "AVAILABLE")
+                        .param("page", "1")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(freelancerDTO.getId()))
+                .andExpect(jsonPath("$.totalElements").value(11))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(freelancerService).searchFreelancersPage(null, null, null, "AVAILABLE", 1, 10);
+    }
+
+    @Test
+    void shouldSearchFreelancersByCursor() throws Exception {
+        when(freelancerService.searchFreelancers(any(FreelancerSearchCriteria.class)))
+                .thenReturn(new FreelancerCursorPageDTO(List.of(freelancerDTO), "next", true));
+
+        mockMvc.perform(get("/api/freelancers/search")
+                        .param("skills", "Java", "Spring")
+                        .param("minRate", "20")
+                        .param("sort", "HOURLY_RATE")
+                        .param("direction", "ASC")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(freelancerDTO.getId()))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        ArgumentCaptor<FreelancerSearchCriteria> criteria = ArgumentCaptor.forClass(FreelancerSearchCriteria.class);
+        verify(freelancerService).searchFreelancers(criteria.capture());
+        assertEquals(List.of("Java", "Spring"), criteria.getValue().getSkills());
+        assertEquals(new BigDecimal("20"), criteria.getValue().getMinRate());
+        assertEquals(FreelancerSortField.HOURLY_RATE, criteria.getValue().getSort());
+        assertEquals(Sort.Direction.ASC, criteria.getValue().getDirection());
+        assertEquals(5, criteria.getValue().getLimit());
     }
 
     @Test
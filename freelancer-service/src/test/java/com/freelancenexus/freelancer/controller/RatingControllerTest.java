@@ -2,6 +2,7 @@ package com.freelancenexus.freelancer.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.freelancer.dto.RatingDTO;
+import com.freelancenexus.freelancer.dto.RatingDistributionDTO;
 import com.freelancenexus.freelancer.service.RatingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,8 +14,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -78,4 +82,23 @@ class RatingControllerTest {
 
         verify(ratingService, times(1)).getFreelancerRatings(1L);
     }
+
+    @Test
+    void shouldGetRatingDistribution() throws Exception {
+        Map<Integer, Integer> starCounts = new LinkedHashMap<>();
+        for (int stars = 1; stars <= 5; stars++) {
+            starCounts.put(stars, stars == 5 ? 2 : 0);
+        }
+        when(ratingService.getRatingDistribution(1L)).thenReturn(new RatingDistributionDTO(
+                1L, 2, new BigDecimal("5.00"), new BigDecimal("3.929"), starCounts));
+
+        mockMvc.perform(get("/api/freelancers/1/ratings/distribution"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ratingCount").value(2))
+                .andExpect(jsonPath("$.bayesianScore").value(3.929))
+                .andExpect(jsonPath("$.starCounts['5']").value(2))
+                .andExpect(jsonPath("$.starCounts['1']").value(0));
+
+        verify(ratingService, times(1)).getRatingDistribution(1L);
+    }
 }
@@ -0,0 +1,34 @@
+package com.freelancenexus.freelancer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BayesianRatingScorerTest {
+
+    private final BayesianRatingScorer scorer = new BayesianRatingScorer(new BigDecimal("3.5"), 5);
+
+    @Test
+    void shouldScoreUnratedFreelancerAtPriorMean() {
+        assertEquals(new BigDecimal("3.500"), scorer.score(0, 0));
+    }
+
+    @Test
+    void shouldRankVeteranAboveSingleFiveStarReview() {
+        BigDecimal singleReview = scorer.score(5, 1);
+        BigDecimal veteran = scorer.score(46 * 10, 100); // 100 ratings averaging 4.6
+
+        assertEquals(new BigDecimal("3.750"), singleReview);
+        assertTrue(veteran.compareTo(singleReview) > 0);
+    }
+
+    @Test
+    void shouldKeepPriorWeightPositive() {
+        BayesianRatingScorer unweighted = new BayesianRatingScorer(new BigDecimal("3.5"), 0);
+
+        assertEquals(1, unweighted.getPriorWeight());
+        assertEquals(new BigDecimal("3.500"), unweighted.score(0, 0));
+    }
+}
@@ -1,24 +1,43 @@
 package com.freelancenexus.freelancer.service;
 
+import com.freelancenexus.freelancer.dto.FreelancerCursorPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerDTO;
+import com.freelancenexus.freelancer.dto.FreelancerPageDTO;
 import com.freelancenexus.freelancer.dto.FreelancerProfileDTO;
+import com.freelancenexus.freelancer.dto.FreelancerSearchCriteria;
+import com.freelancenexus.freelancer.dto.FreelancerSortField;
 import com.freelancenexus.freelancer.dto.SkillDTO;
 import com.freelancenexus.freelancer.exception.FreelancerAlreadyExistsException;
 import com.freelancenexus.freelancer.exception.ResourceNotFoundException;
 import com.freelancenexus.freelancer.model.Freelancer;
+import com.freelancenexus.freelancer.event.FreelancerSkillsChangedEvent;
 import com.freelancenexus.freelancer.model.Skill;
+import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
 import com.freelancenexus.freelancer.repository.FreelancerRepository;
 import com.freelancenexus.freelancer.repository.RatingRepository;
+import com.freelancenexus.freelancer.repository.SkillRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +52,18 @@ class FreelancerServiceTest {
     @Mock
     private RatingRepository ratingRepository;
 
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private FreelancerSkillIndex skillIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BayesianRatingScorer ratingScorer;
+
     @InjectMocks
     private FreelancerService freelancerService;
 
@@ -62,6 +93,7 @@ class FreelancerServiceTest {
     @Test
     void shouldCreateFreelancer() {
         when(freelancerRepository.existsByUserId(freelancerDTO.getUserId())).thenReturn(false);
+        when(ratingScorer.score(0, 0)).thenReturn(new BigDecimal("3.500"));
         when(freelancerRepository.save(any(Freelancer.class))).thenReturn(freelancer);
 
         FreelancerDTO result = freelancerService.createFreelancer(freelancerDTO);
@@ -69,6 +101,10 @@ class FreelancerServiceTest {
         assertNotNull(result);
         assertEquals(freelancer.getId(), result.getId());
         verify(freelancerRepository, times(1)).save(any(Freelancer.class));
+        verify(eventPublisher).publishEvent(any(FreelancerSkillsChangedEvent.class));
+        ArgumentCaptor<Freelancer> saved = ArgumentCaptor.forClass(Freelancer.class);
+        verify(freelancerRepository).save(saved.capture());
+        assertEquals(new BigDecimal("3.500"), saved.getValue().getBayesianScore());
     }
 
     @Test
@@ -155,54 +191,164 @@ class FreelancerServiceTest {
 
     @Test
     void shouldSearchFreelancers() {
-        when(freelancerRepository.searchFreelancers(any(), any(), any(), any())).thenReturn(List.of(freelancer));
+        when(freelancerRepository.findAll(any(Specification.class), eq(Sort.by("id")))).thenReturn(List.of(freelancer));
 
         List<FreelancerDTO> results = freelancerService.searchFreelancers(BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.ONE, "AVAILABLE");
 
         assertFalse(results.isEmpty());
-        verify(freelancerRepository, times(1)).searchFreelancers(any(), any(), any(), any());
+        verify(freelancerRepository, times(1)).findAll(any(Specification.class), any(Sort.class));
+    }
+
+    @Test
+    void shouldGetFreelancersBySkillsFromIndexInRankOrder() {
+        Freelancer other = new Freelancer();
+        other.setId(2L);
+        when(skillIndex.isReady()).thenReturn(true);
+        when(skillIndex.search(Set.of("java", "spring"), true, ProficiencyLevel.EXPERT)).thenReturn(List.of(2L, 1L));
+        when(freelancerRepository.findAllByIdInWithSkills(List.of(2L, 1L))).thenReturn(List.of(freelancer, other));
+
+        List<FreelancerDTO> results = freelancerService.getFreelancersBySkills(
+                List.of(" Java", "SPRING"), true, ProficiencyLevel.EXPERT);
+
+        assertEquals(List.of(2L, 1L), results.stream().map(FreelancerDTO::getId).toList());
+        verifyNoInteractions(skillRepository);
     }
 
     @Test
-    void shouldGetFreelancersBySkills() {
-        when(freelancerRepository.findBySkills(anyList())).thenReturn(List.of(freelancer));
+    void shouldGetFreelancersBySkillsFromDatabaseUntilIndexIsReady() {
+        when(skillIndex.isReady()).thenReturn(false);
+        when(skillRepository.findFreelancerIdsBySkills(Set.of("java"), true, List.of(ProficiencyLevel.values()), 1L))
+                .thenReturn(List.of(1L));
+        when(freelancerRepository.findAllByIdInWithSkills(List.of(1L))).thenReturn(List.of(freelancer));
 
         List<FreelancerDTO> results = freelancerService.getFreelancersBySkills(List.of("Java"));
 
-        assertFalse(results.isEmpty());
-        verify(freelancerRepository, times(1)).findBySkills(anyList());
+        assertEquals(1, results.size());
+        verify(skillIndex, never()).search(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void shouldNotQueryWhenNoSkillsMatch() {
+        when(skillIndex.isReady()).thenReturn(true);
+        when(skillIndex.search(any(), anyBoolean(), any())).thenReturn(List.of());
+
+        assertTrue(freelancerService.getFreelancersBySkills(List.of("Cobol")).isEmpty());
+        verify(freelancerRepository, never()).findAllByIdInWithSkills(any());
     }
 
     @Test
     void shouldGetAllFreelancers() {
-        when(freelancerRepository.findAll()).thenReturn(List.of(freelancer));
+        when(freelancerRepository.findAllWithSkills()).thenReturn(List.of(freelancer));
 
         List<FreelancerDTO> results = freelancerService.getAllFreelancers();
 
         assertFalse(results.isEmpty());
-        verify(freelancerRepository, times(1)).findAll();
+        verify(freelancerRepository, times(1)).findAllWithSkills();
+        verifyNoMoreInteractions(freelancerRepository);
     }
 
     @Test
-    void shouldUpdateFreelancerStats() {
-        when(freelancerRepository.findById(1L)).thenReturn(Optional.of(freelancer));
-        when(ratingRepository.calculateAverageRating(1L)).thenReturn(BigDecimal.valueOf(4.5));
-        when(freelancerRepository.save(freelancer)).thenReturn(freelancer);
+    void shouldServeFullPageFromSinglePagedFindWithoutSkillLookups() {
+        List<Freelancer> freelancers = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            freelancers.add(freelancer(id, BigDecimal.valueOf(4)));
+        }
+        PageRequest pageRequest = PageRequest.of(0, 25, Sort.by("id"));
+        when(freelancerRepository.findAll(any(Specification.class), eq(pageRequest)))
+                .thenReturn(new PageImpl<>(freelancers, pageRequest, 60));
+
+        FreelancerPageDTO page = freelancerService.searchFreelancersPage(null, null, null, "AVAILABLE", 0, 25);
+
+        assertEquals(25, page.getContent().size());
+        assertEquals(60, page.getTotalElements());
+        assertTrue(page.isHasMore());
+        // Checks the service's repository calls only; the SQL issued per call is not observable with mocks
+        verify(freelancerRepository).findAll(any(Specification.class), any(Pageable.class));
+        verifyNoMoreInteractions(freelancerRepository);
+        verifyNoInteractions(skillRepository);
+    }
 
-        freelancerService.updateFreelancerStats(1L);
+    @Test
+    void shouldClampPageSize() {
+        when(freelancerRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
 
-        assertEquals(BigDecimal.valueOf(4.5), freelancer.getAverageRating());
-        verify(freelancerRepository, times(1)).save(freelancer);
+        FreelancerPageDTO page = freelancerService.searchFreelancersPage(null, null, null, null, -1, 1000);
+
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.isHasMore());
+        verify(freelancerRepository).findAll(any(Specification.class), eq(PageRequest.of(0, 100, Sort.by("id"))));
     }
 
     @Test
-    void shouldSetAverageRatingToZeroIfNoRatings() {
-        when(freelancerRepository.findById(1L)).thenReturn(Optional.of(freelancer));
-        when(ratingRepository.calculateAverageRating(1L)).thenReturn(null);
-        when(freelancerRepository.save(freelancer)).thenReturn(freelancer);
+    void shouldReturnKeysetPageWithCursorAfterLastItem() {
+        doReturn(List.of(freelancer(7L, new BigDecimal("4.90")), freelancer(3L, new BigDecimal("4.50")),
+                freelancer(2L, new BigDecimal("4.50"))))
+                .when(freelancerRepository).findBy(any(), any());
+        FreelancerSearchCriteria criteria = new FreelancerSearchCriteria();
+        criteria.setSkills(List.of("Java", "Spring"));
+        criteria.setMatchAll(true);
+        criteria.setLimit(2);
+
+        FreelancerCursorPageDTO page = freelancerService.searchFreelancers(criteria);
+
+        assertEquals(List.of(7L, 3L), page.getItems().stream().map(FreelancerDTO::getId).toList());
+        assertTrue(page.isHasMore());
+        assertEquals("4.50|3", new String(Base64.getUrlDecoder().decode(page.getNextCursor()), StandardCharsets.UTF_8));
+        verify(freelancerRepository, times(1)).findBy(any(), any());
+    }
+
+    @Test
+    void shouldReturnLastKeysetPageWithoutCursor() {
+        doReturn(List.of(freelancer(7L, new BigDecimal("4.90"))))
+                .when(freelancerRepository).findBy(any(), any());
+        FreelancerSearchCriteria criteria = new FreelancerSearchCriteria();
+        criteria.setSort(FreelancerSortField.COMPLETED_PROJECTS);
+        criteria.setCursor(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("12|9".getBytes(StandardCharsets.UTF_8)));
+
+        FreelancerCursorPageDTO page = freelancerService.searchFreelancers(criteria);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        FreelancerSearchCriteria criteria = new FreelancerSearchCriteria();
+        criteria.setCursor("not-a-cursor");
+
+        assertThrows(IllegalArgumentException.class, () -> freelancerService.searchFreelancers(criteria));
+        verifyNoInteractions(freelancerRepository);
+    }
+
+    @Test
+    void shouldRecomputeFreelancerStatsFromRatings() {
+        when(freelancerRepository.existsById(1L)).thenReturn(true);
+        when(ratingScorer.getPriorMean()).thenReturn(new BigDecimal("3.5"));
+        when(ratingScorer.getPriorWeight()).thenReturn(5);
+        when(freelancerRepository.reconcileRatingAggregates(0L, 1L, new BigDecimal("3.5"), 5)).thenReturn(1);
 
         freelancerService.updateFreelancerStats(1L);
 
-        assertEquals(BigDecimal.ZERO, freelancer.getAverageRating());
+        verify(freelancerRepository, times(1)).reconcileRatingAggregates(0L, 1L, new BigDecimal("3.5"), 5);
+        verify(freelancerRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowWhenUpdatingStatsOfUnknownFreelancer() {
+        when(freelancerRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> freelancerService.updateFreelancerStats(1L));
+        verify(freelancerRepository, never()).reconcileRatingAggregates(anyLong(), anyLong(), any(), anyInt());
+    }
+
+    private Freelancer freelancer(Long id, BigDecimal rating) {
+        Freelancer row = new Freelancer();
+        row.setId(id);
+        row.setAverageRating(rating);
+        row.setBayesianScore(rating);
+        row.addSkill(new Skill());
+        return row;
     }
 }
@@ -0,0 +1,116 @@
+package com.freelancenexus.freelancer.service;
+
+import com.freelancenexus.freelancer.event.FreelancerSkillsChangedEvent;
+import com.freelancenexus.freelancer.event.FreelancerSkillsChangedEvent.SkillEntry;
+import com.freelancenexus.freelancer.model.Skill.ProficiencyLevel;
+import com.freelancenexus.freelancer.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FreelancerSkillIndexTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @InjectMocks
+    private FreelancerSkillIndex skillIndex;
+
+    @Test
+    void shouldRankAnyMatchesByMatchCount() {
+        load(row(1L, "Java", ProficiencyLevel.BEGINNER),
+             row(2L, "Java", ProficiencyLevel.EXPERT), row(2L, "Spring", ProficiencyLevel.EXPERT),
+             row(3L, "Figma", ProficiencyLevel.EXPERT));
+
+        assertEquals(List.of(2L, 1L), skillIndex.search(List.of("java", " SPRING "), false, null));
+    }
+
+    @Test
+    void shouldRequireEverySkillWhenMatchingAll() {
+        load(row(1L, "Java", ProficiencyLevel.EXPERT),
+             row(2L, "Java", ProficiencyLevel.EXPERT), row(2L, "Spring", ProficiencyLevel.INTERMEDIATE));
+
+        assertEquals(List.of(2L), skillIndex.search(List.of("Java", "Spring"), true, null));
+        assertTrue(skillIndex.search(List.of("Java", "Kotlin"), true, null).isEmpty());
+    }
+
+    @Test
+    void shouldFilterByMinimumProficiency() {
+        load(row(1L, "Java", ProficiencyLevel.BEGINNER), row(2L, "Java", ProficiencyLevel.INTERMEDIATE),
+             row(3L, "Java", ProficiencyLevel.EXPERT), row(4L, "Java", null));
+
+        assertEquals(List.of(2L, 3L), skillIndex.search(List.of("Java"), false, ProficiencyLevel.INTERMEDIATE));
+        assertEquals(List.of(1L, 2L, 3L, 4L), skillIndex.search(List.of("Java"), false, null));
+    }
+
+    @Test
+    void shouldReplaceSkillsOnChangeEvent() {
+        load(row(1L, "Java", ProficiencyLevel.EXPERT));
+
+        skillIndex.onSkillsChanged(new FreelancerSkillsChangedEvent(1L,
+                List.of(new SkillEntry("Kotlin", ProficiencyLevel.EXPERT))));
+        skillIndex.onSkillsChanged(new FreelancerSkillsChangedEvent(5L,
+                List.of(new SkillEntry("java", ProficiencyLevel.BEGINNER))));
+
+        assertEquals(List.of(5L), skillIndex.search(List.of("Java"), false, null));
+        assertEquals(List.of(1L), skillIndex.search(List.of("Kotlin"), false, null));
+    }
+
+    @Test
+    void shouldHoldEventsUntilInitialLoad() {
+        skillIndex.onSkillsChanged(new FreelancerSkillsChangedEvent(1L,
+                List.of(new SkillEntry("Java", ProficiencyLevel.EXPERT))));
+
+        assertFalse(skillIndex.isReady());
+        assertTrue(skillIndex.search(List.of("Java"), false, null).isEmpty());
+        verifyNoInteractions(skillRepository);
+    }
+
+    @Test
+    void shouldReplayEventsReceivedWhileRebuilding() {
+        load(row(1L, "Java", ProficiencyLevel.EXPERT));
+        when(skillRepository.findAllIndexRows()).thenAnswer(invocation -> {
+            // Committed after the rows below were read
+            skillIndex.onSkillsChanged(new FreelancerSkillsChangedEvent(2L,
+                    List.of(new SkillEntry("Kotlin", ProficiencyLevel.EXPERT))));
+            return List.of(row(1L, "Java", ProficiencyLevel.EXPERT), row(2L, "Java", ProficiencyLevel.EXPERT));
+        });
+
+        skillIndex.scheduledRebuild();
+
+        assertEquals(List.of(1L), skillIndex.search(List.of("Java"), false, null));
+        assertEquals(List.of(2L), skillIndex.search(List.of("Kotlin"), false, null));
+    }
+
+    private void load(SkillRepository.SkillIndexRow... rows) {
+        when(skillRepository.findAllIndexRows()).thenReturn(List.of(rows));
+        skillIndex.rebuild();
+    }
+
+    private SkillRepository.SkillIndexRow row(Long freelancerId, String skillName, ProficiencyLevel level) {
+        return new SkillRepository.SkillIndexRow() {
+            @Override
+            public Long getFreelancerId() {
+                return freelancerId;
+            }
+
+            @Override
+            public String getSkillName() {
+                return skillName;
+            }
+
+            @Override
+            public ProficiencyLevel getProficiencyLevel() {
+                return level;
+            }
+        };
+    }
+}
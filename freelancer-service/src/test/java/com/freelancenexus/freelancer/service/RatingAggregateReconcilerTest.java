@@ -0,0 +1,56 @@
+package com.freelancenexus.freelancer.service;
+
+import com.freelancenexus.freelancer.repository.FreelancerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingAggregateReconcilerTest {
+
+    @Mock
+    private FreelancerRepository freelancerRepository;
+
+    @Spy
+    private BayesianRatingScorer ratingScorer = new BayesianRatingScorer(new BigDecimal("3.5"), 5);
+
+    @InjectMocks
+    private RatingAggregateReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciler, "batchSize", 100);
+    }
+
+    @Test
+    void shouldReconcileInIdRangesAndSumCorrections() {
+        when(freelancerRepository.findMaxId()).thenReturn(250L);
+        when(freelancerRepository.reconcileRatingAggregates(0L, 100L, new BigDecimal("3.5"), 5)).thenReturn(2);
+        when(freelancerRepository.reconcileRatingAggregates(100L, 200L, new BigDecimal("3.5"), 5)).thenReturn(0);
+        when(freelancerRepository.reconcileRatingAggregates(200L, 250L, new BigDecimal("3.5"), 5)).thenReturn(1);
+
+        int corrected = reconciler.reconcile();
+
+        assertEquals(3, corrected);
+        verify(freelancerRepository, times(3)).reconcileRatingAggregates(anyLong(), anyLong(), any(), anyInt());
+    }
+
+    @Test
+    void shouldDoNothingWithoutFreelancers() {
+        when(freelancerRepository.findMaxId()).thenReturn(0L);
+
+        assertEquals(0, reconciler.reconcile());
+        verify(freelancerRepository, never()).reconcileRatingAggregates(anyLong(), anyLong(), any(), anyInt());
+    }
+}
@@ -1,6 +1,7 @@
 package com.freelancenexus.freelancer.service;
 
 import com.freelancenexus.freelancer.dto.RatingDTO;
+import com.freelancenexus.freelancer.dto.RatingDistributionDTO;
 import com.freelancenexus.freelancer.exception.DuplicateRatingException;
 import com.freelancenexus.freelancer.exception.ResourceNotFoundException;
 import com.freelancenexus.freelancer.model.Freelancer;
@@ -31,8 +32,8 @@ class RatingServiceTest {
     @Mock
     private FreelancerRepository freelancerRepository;
 
-    @Mock
-    private FreelancerService freelancerService;
+    @Spy
+    private BayesianRatingScorer ratingScorer = new BayesianRatingScorer(new BigDecimal("3.5"), 5);
 
     @InjectMocks
     private RatingService ratingService;
@@ -58,36 +59,40 @@ class RatingServiceTest {
     }
 
     @Test
-    void shouldAddRatingSuccessfully() {
-        when(freelancerRepository.findById(1L)).thenReturn(Optional.of(freelancer));
+    void shouldAddRatingAndUpdateAggregatesIncrementally() {
         when(ratingRepository.existsByFreelancerIdAndClientIdAndProjectId(1L, 10L, 100L)).thenReturn(false);
+        when(freelancerRepository.addToRatingAggregates(1L, 5, new BigDecimal("3.5"), 5)).thenReturn(1);
+        when(freelancerRepository.getReferenceById(1L)).thenReturn(freelancer);
         when(ratingRepository.save(any(Rating.class))).thenReturn(rating);
 
         RatingDTO result = ratingService.addRating(1L, ratingDTO);
 
         assertNotNull(result);
         assertEquals(rating.getId(), result.getId());
-        verify(ratingRepository, times(1)).save(any(Rating.class));
-        verify(freelancerService, times(1)).updateFreelancerStats(1L);
+        ArgumentCaptor<Rating> saved = ArgumentCaptor.forClass(Rating.class);
+        verify(ratingRepository, times(1)).save(saved.capture());
+        assertSame(freelancer, saved.getValue().getFreelancer());
+        verify(freelancerRepository, times(1)).addToRatingAggregates(1L, 5, new BigDecimal("3.5"), 5);
+        verify(ratingRepository, never()).calculateAverageRating(anyLong());
+        verify(freelancerRepository, never()).findById(anyLong());
     }
 
     @Test
     void shouldThrowExceptionWhenFreelancerNotFoundForAddRating() {
-        when(freelancerRepository.findById(1L)).thenReturn(Optional.empty());
+        when(ratingRepository.existsByFreelancerIdAndClientIdAndProjectId(1L, 10L, 100L)).thenReturn(false);
+        when(freelancerRepository.addToRatingAggregates(1L, 5, new BigDecimal("3.5"), 5)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> ratingService.addRating(1L, ratingDTO));
         verify(ratingRepository, never()).save(any());
-        verify(freelancerService, never()).updateFreelancerStats(anyLong());
     }
 
     @Test
     void shouldThrowExceptionWhenDuplicateRating() {
-        when(freelancerRepository.findById(1L)).thenReturn(Optional.of(freelancer));
         when(ratingRepository.existsByFreelancerIdAndClientIdAndProjectId(1L, 10L, 100L)).thenReturn(true);
 
         assertThrows(DuplicateRatingException.class, () -> ratingService.addRating(1L, ratingDTO));
         verify(ratingRepository, never()).save(any());
-        verify(freelancerService, never()).updateFreelancerStats(anyLong());
+        verify(freelancerRepository, never()).addToRatingAggregates(anyLong(), anyInt(), any(), anyInt());
     }
 
     @Test
@@ -110,7 +115,8 @@ class RatingServiceTest {
 
     @Test
     void shouldReturnAverageRating() {
-        when(ratingRepository.calculateAverageRating(1L)).thenReturn(new BigDecimal("4.5"));
+        freelancer.setAverageRating(new BigDecimal("4.5"));
+        when(freelancerRepository.findById(1L)).thenReturn(Optional.of(freelancer));
 
         BigDecimal avg = ratingService.getAverageRating(1L);
 
@@ -118,8 +124,8 @@ class RatingServiceTest {
     }
 
     @Test
-    void shouldReturnZeroWhenNoAverageRating() {
-        when(ratingRepository.calculateAverageRating(1L)).thenReturn(null);
+    void shouldReturnZeroWhenFreelancerNotFoundForAverageRating() {
+        when(freelancerRepository.findById(1L)).thenReturn(Optional.empty());
 
         BigDecimal avg = ratingService.getAverageRating(1L);
 
@@ -128,10 +134,36 @@ class RatingServiceTest {
 
     @Test
     void shouldReturnRatingCount() {
-        when(ratingRepository.countByFreelancerId(1L)).thenReturn(3L);
+        freelancer.setRatingCount(3);
+        when(freelancerRepository.findById(1L)).thenReturn(Optional.of(freelancer));
 
         long count = ratingService.getRatingCount(1L);
 
         assertEquals(3L, count);
     }
+
+    @Test
+    void shouldReturnRatingDistributionFromStoredCounters() {
+        freelancer.setRatingCount(4);
+        freelancer.setAverageRating(new BigDecimal("4.25"));
+        freelancer.setBayesianScore(new BigDecimal("3.833"));
+        freelancer.setRating3Count(1);
+        freelancer.setRating4Count(1);
+        freelancer.setRating5Count(2);
+        when(freelancerRepository.findById(1L)).thenReturn(Optional.of(freelancer));
+
+        RatingDistributionDTO distribution = ratingService.getRatingDistribution(1L);
+
+        assertEquals(4, distribution.getRatingCount());
+        assertEquals(new BigDecimal("3.833"), distribution.getBayesianScore());
+        assertEquals(List.of(0, 0, 1, 1, 2), List.copyOf(distribution.getStarCounts().values()));
+        verifyNoInteractions(ratingRepository);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFreelancerNotFoundForDistribution() {
+        when(freelancerRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> ratingService.getRatingDistribution(1L));
+    }
 }
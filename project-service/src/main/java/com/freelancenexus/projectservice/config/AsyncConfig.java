@@ -0,0 +1,82 @@
+package com.freelancenexus.projectservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${ai.executor.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${ai.executor.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Value("${ai.executor.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${ai.concurrency.max-in-flight:8}")
+    private int maxInFlight;
+
+    @Value("${ai.ranking.max-concurrency:3}")
+    private int rankingConcurrency;
+
+    /**
+     * Background pool for AI work (summary generation etc.) kept off the servlet threads
+     */
+    @Bean(name = "aiTaskExecutor")
+    public ThreadPoolTaskExecutor aiTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-task-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool for interactive AI requests, separate from the background pool so queued summaries and
+     * scoring never delay them. There is no queue: AIRequestExecutor admits at most max-in-flight
+     * requests, and the extra threads cover workers that have released their slot but not yet
+     * returned to the pool.
+     */
+    @Bean(name = "aiRequestTaskExecutor")
+    public ThreadPoolTaskExecutor aiRequestTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight * 2);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ai-request-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool for parallel Gemini batch calls; its size caps concurrent ranking requests to Gemini
+     */
+    @Bean(name = "geminiBatchExecutor")
+    public ThreadPoolTaskExecutor geminiBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(rankingConcurrency);
+        executor.setMaxPoolSize(rankingConcurrency);
+        executor.setThreadNamePrefix("gemini-batch-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("Async error in method '{}', params={}, exception={}",
+                          method.getName(), params, ex.getMessage(), ex);
+    }
+}
@@ -1,17 +1,29 @@
 package com.freelancenexus.projectservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.AIRecommendationDTO;
 import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
 import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.SummaryStatus;
+import com.freelancenexus.projectservice.service.AIRequestExecutor;
 import com.freelancenexus.projectservice.service.AIService;
+import com.freelancenexus.projectservice.service.ProjectSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/api/ai")
@@ -20,44 +32,100 @@ import java.util.List;
 public class AIRecommendationController {
 
     private final AIService aiService;
+    private final ProjectSummaryService projectSummaryService;
+    private final AIRequestExecutor aiRequestExecutor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.deadline.recommendations-ms:20000}")
+    private long recommendationsDeadlineMs;
+
+    @Value("${ai.deadline.ranking-ms:45000}")
+    private long rankingDeadlineMs;
 
     // Only freelancers can get AI recommendations
     @GetMapping("/recommendations/freelancer/{freelancerId}")
     @PreAuthorize("hasRole('FREELANCER')")
-    public ResponseEntity<List<AIRecommendationDTO>> getRecommendations(
+    public CompletableFuture<ResponseEntity<List<AIRecommendationDTO>>> getRecommendations(
             @PathVariable Long freelancerId,
             @RequestParam List<String> skills,
             @RequestParam(required = false) String bio) {
         log.info("GET /api/ai/recommendations/freelancer/{} - Getting AI recommendations", freelancerId);
         
-        List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(
-                freelancerId, skills, bio);
-        
-        return ResponseEntity.ok(recommendations);
+        return aiRequestExecutor.submit("recommendations",
+                        () -> aiService.recommendProjectsForFreelancer(freelancerId, skills, bio),
+                        Duration.ofMillis(recommendationsDeadlineMs))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    // Recommendations as newline-delimited JSON, each line written as soon as Gemini produces it
+    @GetMapping(value = "/recommendations/freelancer/{freelancerId}/stream", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('FREELANCER')")
+    public ResponseEntity<StreamingResponseBody> streamRecommendations(
+            @PathVariable Long freelancerId,
+            @RequestParam List<String> skills,
+            @RequestParam(required = false) String bio) {
+        log.info("GET /api/ai/recommendations/freelancer/{}/stream - Streaming AI recommendations", freelancerId);
+
+        // Taken before the response is committed so a saturated service still answers 503
+        AIRequestExecutor.Permit permit = aiRequestExecutor.acquire("recommendations-stream");
+        StreamingResponseBody body = outputStream -> {
+            try (permit) {
+                aiService.streamRecommendationsForFreelancer(freelancerId, skills, bio, recommendation -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(recommendation));
+                        outputStream.write('\n');
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 
     // Only clients can rank proposals with AI
     @GetMapping("/proposals/rank/{projectId}")
     @PreAuthorize("hasRole('CLIENT')")
-    public ResponseEntity<List<RankedProposalDTO>> rankProposals(@PathVariable Long projectId) {
+    public CompletableFuture<ResponseEntity<List<RankedProposalDTO>>> rankProposals(@PathVariable Long projectId) {
         log.info("GET /api/ai/proposals/rank/{} - Ranking proposals with AI", projectId);
         
-        List<RankedProposalDTO> rankedProposals = aiService.rankProposalsForProject(projectId);
-        
-        return ResponseEntity.ok(rankedProposals);
+        return aiRequestExecutor.submit("proposal-ranking",
+                        () -> aiService.rankProposalsForProject(projectId),
+                        Duration.ofMillis(rankingDeadlineMs))
+                .thenApply(ResponseEntity::ok);
     }
 
-    // Both client and freelancer can view AI summary
+    // Both client and freelancer can view AI summary; 202 while it is still being generated
     @GetMapping("/summary/project/{projectId}")
     @PreAuthorize("hasAnyRole('CLIENT', 'FREELANCER')")
     public ResponseEntity<ProjectSummaryDTO> getProjectSummary(@PathVariable Long projectId) {
-        log.info("GET /api/ai/summary/project/{} - Generating AI summary", projectId);
+        log.info("GET /api/ai/summary/project/{} - Fetching AI summary", projectId);
         
-        ProjectSummaryDTO summary = aiService.generateProjectSummary(projectId);
+        ProjectSummaryDTO summary = projectSummaryService.getSummary(projectId);
         
+        if (summary.getStatus() == SummaryStatus.PENDING) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(summary);
+        }
         return ResponseEntity.ok(summary);
     }
 
+    @ExceptionHandler(AIRequestExecutor.AICapacityExceededException.class)
+    public ResponseEntity<String> handleCapacityExceeded(AIRequestExecutor.AICapacityExceededException ex) {
+        log.warn("AI request rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body("AI service busy: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<String> handleTimeout(TimeoutException ex) {
+        log.warn("AI request exceeded its deadline");
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body("AI service error: request timed out");
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         log.error("Error in AIRecommendationController", ex);
@@ -0,0 +1,91 @@
+package com.freelancenexus.projectservice.controller;
+
+import com.freelancenexus.projectservice.dto.ClientMilestoneDashboardDTO;
+import com.freelancenexus.projectservice.dto.MilestoneCreateDTO;
+import com.freelancenexus.projectservice.dto.MilestoneDTO;
+import com.freelancenexus.projectservice.dto.MilestoneProgressDTO;
+import com.freelancenexus.projectservice.model.MilestoneStatus;
+import com.freelancenexus.projectservice.service.MilestoneService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+public class MilestoneController {
+
+    private final MilestoneService milestoneService;
+
+    // Only clients define milestones for their projects
+    @PostMapping("/projects/{projectId}/milestones")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<MilestoneDTO> createMilestone(
+            @PathVariable Long projectId,
+            @Valid @RequestBody MilestoneCreateDTO createDTO) {
+        log.info("POST /api/projects/{}/milestones - Creating milestone", projectId);
+        MilestoneDTO milestone = milestoneService.createMilestone(projectId, createDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(milestone);
+    }
+
+    @GetMapping("/projects/{projectId}/milestones")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<MilestoneDTO>> getProjectMilestones(@PathVariable Long projectId) {
+        log.info("GET /api/projects/{}/milestones - Fetching milestones", projectId);
+        return ResponseEntity.ok(milestoneService.getMilestonesByProjectId(projectId));
+    }
+
+    @GetMapping("/projects/{projectId}/milestones/progress")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<MilestoneProgressDTO> getProjectProgress(@PathVariable Long projectId) {
+        log.info("GET /api/projects/{}/milestones/progress - Fetching milestone progress", projectId);
+        return ResponseEntity.ok(milestoneService.getProjectProgress(projectId));
+    }
+
+    @PutMapping("/milestones/{id}")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<MilestoneDTO> updateMilestone(
+            @PathVariable Long id,
+            @Valid @RequestBody MilestoneCreateDTO updateDTO) {
+        log.info("PUT /api/milestones/{} - Updating milestone", id);
+        return ResponseEntity.ok(milestoneService.updateMilestone(id, updateDTO));
+    }
+
+    // Freelancers report progress, only clients sign off completion; statuses only move forward
+    @PutMapping("/milestones/{id}/status")
+    @PreAuthorize("hasRole('CLIENT') or (hasRole('FREELANCER') and #status.name() != 'COMPLETED')")
+    public ResponseEntity<MilestoneDTO> updateMilestoneStatus(
+            @PathVariable Long id,
+            @RequestParam MilestoneStatus status) {
+        log.info("PUT /api/milestones/{}/status - Updating status to {}", id, status);
+        return ResponseEntity.ok(milestoneService.updateMilestoneStatus(id, status));
+    }
+
+    @DeleteMapping("/milestones/{id}")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<Void> deleteMilestone(@PathVariable Long id) {
+        log.info("DELETE /api/milestones/{} - Deleting milestone", id);
+        milestoneService.deleteMilestone(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/milestones/client/{clientId}/dashboard")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<ClientMilestoneDashboardDTO> getClientDashboard(@PathVariable Long clientId) {
+        log.info("GET /api/milestones/client/{}/dashboard - Fetching milestone dashboard", clientId);
+        return ResponseEntity.ok(milestoneService.getClientDashboard(clientId));
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
+        log.error("Error in MilestoneController", ex);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+}
@@ -2,14 +2,18 @@ package com.freelancenexus.projectservice.controller;
 
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
+import com.freelancenexus.projectservice.dto.ProjectSearchResultDTO;
 import com.freelancenexus.projectservice.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -83,6 +87,56 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    // Cursor-paginated listing, same filters as the plain listing
+    @GetMapping("/page")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ProjectPageDTO> getProjectsPage(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        log.info("GET /api/projects/page - Fetching project page");
+        ProjectPageDTO page = projectService.getProjectsPage(keyword, status, category, limit, cursor);
+        return ResponseEntity.ok(page);
+    }
+
+    // Open projects requiring any (default) or all of the given skills
+    @GetMapping("/skills")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ProjectDTO>> getProjectsBySkills(
+            @RequestParam List<String> skills,
+            @RequestParam(defaultValue = "any") String match) {
+        log.info("GET /api/projects/skills - Fetching open projects matching {} of {}", match, skills);
+        List<ProjectDTO> projects = "all".equalsIgnoreCase(match)
+                ? projectService.getOpenProjectsRequiringAllSkills(skills)
+                : projectService.getOpenProjectsRequiringAnySkill(skills);
+        return ResponseEntity.ok(projects);
+    }
+
+    // Relevance-ranked full-text search with category/skill facets
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ProjectSearchResultDTO> searchProjects(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/projects/search - Searching projects for: {}", keyword);
+        ProjectSearchResultDTO result = projectService.searchProjectsWithFacets(keyword, status, limit);
+        return ResponseEntity.ok(result);
+    }
+
+    // Bulk export as newline-delimited JSON
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportProjects(@RequestParam(required = false) String status) {
+        log.info("GET /api/projects/export - Exporting projects");
+        StreamingResponseBody body = outputStream -> projectService.exportProjects(status, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     // Client can view their own projects
     @GetMapping("/client/{clientId}")
     @PreAuthorize("hasRole('CLIENT')")
@@ -0,0 +1,21 @@
+package com.freelancenexus.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientMilestoneDashboardDTO {
+    private Long clientId;
+    private long totalMilestones;
+    private long completedMilestones;
+    private long overdueMilestones;
+    private BigDecimal completedAmount;
+    private BigDecimal remainingAmount;
+    private List<MilestoneProgressDTO> projects;
+}
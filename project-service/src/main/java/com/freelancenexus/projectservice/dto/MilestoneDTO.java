@@ -0,0 +1,24 @@
+package com.freelancenexus.projectservice.dto;
+
+import com.freelancenexus.projectservice.model.MilestoneStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MilestoneDTO {
+    private Long id;
+    private Long projectId;
+    private String title;
+    private String description;
+    private BigDecimal amount;
+    private LocalDate dueDate;
+    private MilestoneStatus status;
+    private LocalDateTime completedAt;
+}
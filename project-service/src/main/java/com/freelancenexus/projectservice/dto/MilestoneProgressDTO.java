@@ -0,0 +1,20 @@
+package com.freelancenexus.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MilestoneProgressDTO {
+    private Long projectId;
+    private String projectTitle;
+    private long totalMilestones;
+    private long completedMilestones;
+    private long overdueMilestones;
+    private BigDecimal completedAmount;
+    private BigDecimal remainingAmount;
+}
@@ -0,0 +1,17 @@
+package com.freelancenexus.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSearchResultDTO {
+    private List<ProjectDTO> items; // ordered by relevance
+    private Map<String, Long> categoryFacets;
+    private Map<String, Long> skillFacets;
+}
@@ -1,5 +1,6 @@
 package com.freelancenexus.projectservice.dto;
 
+import com.freelancenexus.projectservice.model.SummaryStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,4 +15,5 @@ public class ProjectSummaryDTO {
     private String idealCandidate;
     private String estimatedComplexity;
     private java.util.List<String> suggestedSkills;
+    private SummaryStatus status;
 }
\ No newline at end of file
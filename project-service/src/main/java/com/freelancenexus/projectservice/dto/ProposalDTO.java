@@ -20,6 +20,7 @@ public class ProposalDTO {
     private BigDecimal proposedBudget;
     private Integer deliveryDays;
     private BigDecimal aiScore;
+    private Integer aiRank;
     private ProposalStatus status;
     private LocalDateTime submittedAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,25 @@
+package com.freelancenexus.projectservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * In-process application event raised when a project is written.
+ * Listeners that need committed data should use @TransactionalEventListener.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ProjectChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        ASSIGNED,
+        CANCELLED
+    }
+
+    private final Long projectId;
+    private final ChangeType changeType;
+}
@@ -0,0 +1,58 @@
+package com.freelancenexus.projectservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Messages published to the project exchange through the outbox, under their own routing key.
+ * Serialized as JSON with an eventType field, the same shape consumers received from the former
+ * map payloads.
+ */
+public sealed interface ProjectEventMessage {
+
+    @JsonProperty("eventType")
+    String eventType();
+
+    String routingKey();
+
+    static String now() {
+        return LocalDateTime.now().toString();
+    }
+
+    record ProjectCreated(Long projectId, Long clientId, String title, String category, String timestamp)
+            implements ProjectEventMessage {
+        public String eventType() { return "PROJECT_CREATED"; }
+        public String routingKey() { return "project.created"; }
+    }
+
+    record ProposalSubmitted(Long proposalId, Long projectId, Long freelancerId, String projectTitle, String timestamp)
+            implements ProjectEventMessage {
+        public String eventType() { return "PROPOSAL_SUBMITTED"; }
+        public String routingKey() { return "proposal.submitted"; }
+    }
+
+    record ProposalAccepted(Long proposalId, Long projectId, Long freelancerId, String timestamp)
+            implements ProjectEventMessage {
+        public String eventType() { return "PROPOSAL_ACCEPTED"; }
+        public String routingKey() { return "proposal.accepted"; }
+    }
+
+    record ProposalRejected(Long proposalId, Long projectId, Long freelancerId, String timestamp)
+            implements ProjectEventMessage {
+        public String eventType() { return "PROPOSAL_REJECTED"; }
+        public String routingKey() { return "proposal.rejected"; }
+    }
+
+    record ProjectStatusChanged(Long projectId, String oldStatus, String newStatus, String timestamp)
+            implements ProjectEventMessage {
+        public String eventType() { return "PROJECT_STATUS_CHANGED"; }
+        public String routingKey() { return "project.status.changed"; }
+    }
+
+    record ProjectAssigned(Long projectId, Long freelancerId, Long clientId, String timestamp)
+            implements ProjectEventMessage {
+        public String eventType() { return "PROJECT_ASSIGNED"; }
+        public String routingKey() { return "project.assigned"; }
+    }
+}
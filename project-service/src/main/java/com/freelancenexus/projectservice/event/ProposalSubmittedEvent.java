@@ -0,0 +1,17 @@
+package com.freelancenexus.projectservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * In-process application event raised when a freelancer submits a proposal
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ProposalSubmittedEvent {
+
+    private final Long proposalId;
+    private final Long projectId;
+}
@@ -5,13 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "projects")
@@ -42,8 +47,13 @@ public class Project {
     @Column(name = "duration_days")
     private Integer durationDays;
 
-    @Column(name = "required_skills", columnDefinition = "TEXT")
-    private String requiredSkills; // JSON array stored as string
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "skills", columnDefinition = "text[]")
+    private List<String> requiredSkills = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "skill_tags", columnDefinition = "text[]")
+    private List<String> skillTags = new ArrayList<>(); // lower-cased requiredSkills, GIN indexed for skill queries
 
     @Column(length = 100)
     private String category;
@@ -57,6 +67,10 @@ public class Project {
     @Column(name = "assigned_freelancer")
     private Long assignedFreelancer;
 
+    @Version
+    @Column(columnDefinition = "bigint not null default 0")
+    private Long version; // optimistic lock, guards concurrent proposal acceptance
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -70,4 +84,20 @@ public class Project {
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProjectMilestone> milestones = new ArrayList<>();
-}
\ No newline at end of file
+
+    // Rows written outside the entity can leave the array column NULL
+    public List<String> getRequiredSkills() {
+        return requiredSkills != null ? requiredSkills : Collections.emptyList();
+    }
+
+    public void setRequiredSkills(List<String> requiredSkills) {
+        this.requiredSkills = requiredSkills == null ? new ArrayList<>() : requiredSkills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toCollection(ArrayList::new));
+        this.skillTags = this.requiredSkills.stream()
+                .map(skill -> skill.toLowerCase(Locale.ROOT))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package com.freelancenexus.projectservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "project_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false, unique = true)
+    private Long projectId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // SHA-256 of the project fields the summary was generated from
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SummaryStatus status = SummaryStatus.PENDING;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "key_requirements", columnDefinition = "TEXT")
+    private String keyRequirements;
+
+    @Column(name = "ideal_candidate", columnDefinition = "TEXT")
+    private String idealCandidate;
+
+    @Column(name = "estimated_complexity", columnDefinition = "TEXT")
+    private String estimatedComplexity;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "suggested_skills", columnDefinition = "text[]")
+    private List<String> suggestedSkills = new ArrayList<>();
+
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount; // consecutive failed generations for contentHash
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
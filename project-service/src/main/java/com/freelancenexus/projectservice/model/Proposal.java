@@ -40,6 +40,9 @@ public class Proposal {
     @Column(name = "ai_score", precision = 5, scale = 2)
     private BigDecimal aiScore; // AI-generated ranking score (0-100)
 
+    @Column(name = "ai_rank")
+    private Integer aiRank; // position in the project's last full AI ranking, 1 being best
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ProposalStatus status = ProposalStatus.PENDING;
@@ -0,0 +1,7 @@
+package com.freelancenexus.projectservice.model;
+
+public enum SummaryStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,38 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Claims the oldest due events by pushing their next attempt past the lease, so they can be
+    // published after this statement commits; rows locked by another relay instance are skipped
+    @Query(value = "UPDATE outbox_events SET next_attempt_at = now() + CAST(:leaseMs AS double precision) * interval '1 millisecond' " +
+                   "WHERE id IN (SELECT id FROM outbox_events " +
+                   "WHERE dead_lettered_at IS NULL AND next_attempt_at <= now() " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *",
+           nativeQuery = true)
+    List<OutboxEvent> claimNextBatch(@Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    // Backs off exponentially from the attempt count and dead-letters rows that reach maxAttempts
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET attempts = attempts + 1, last_error = :error, " +
+                   "next_attempt_at = now() + LEAST(:maxBackoffMs, :backoffMs * power(2, LEAST(attempts, 30))) * interval '1 millisecond', " +
+                   "dead_lettered_at = CASE WHEN attempts + 1 >= :maxAttempts THEN now() END " +
+                   "WHERE id IN (:ids)",
+           nativeQuery = true)
+    int recordFailure(@Param("ids") Collection<Long> ids,
+                      @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("backoffMs") long backoffMs,
+                      @Param("maxBackoffMs") long maxBackoffMs);
+}
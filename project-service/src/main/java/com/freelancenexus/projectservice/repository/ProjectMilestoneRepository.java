@@ -3,9 +3,14 @@ package com.freelancenexus.projectservice.repository;
 import com.freelancenexus.projectservice.model.MilestoneStatus;
 import com.freelancenexus.projectservice.model.ProjectMilestone;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectMilestoneRepository extends JpaRepository<ProjectMilestone, Long> {
@@ -13,4 +18,48 @@ public interface ProjectMilestoneRepository extends JpaRepository<ProjectMilesto
     List<ProjectMilestone> findByProjectId(Long projectId);
 
     List<ProjectMilestone> findByProjectIdAndStatus(Long projectId, MilestoneStatus status);
-}
\ No newline at end of file
+
+    List<ProjectMilestone> findByProjectIdOrderByDueDateAscIdAsc(Long projectId);
+
+    // Progress for one project in a single aggregate; empty when the project has no milestones
+    @Query("SELECT m.project.id AS projectId, m.project.title AS projectTitle, COUNT(m) AS totalMilestones, " +
+           "SUM(CASE WHEN m.status = :completed THEN 1 ELSE 0 END) AS completedMilestones, " +
+           "SUM(CASE WHEN m.status <> :completed AND m.dueDate < :today THEN 1 ELSE 0 END) AS overdueMilestones, " +
+           "COALESCE(SUM(CASE WHEN m.status = :completed THEN m.amount END), 0) AS completedAmount, " +
+           "COALESCE(SUM(CASE WHEN m.status <> :completed THEN m.amount END), 0) AS remainingAmount " +
+           "FROM ProjectMilestone m WHERE m.project.id = :projectId GROUP BY m.project.id, m.project.title")
+    Optional<MilestoneProgress> summarizeByProjectId(@Param("projectId") Long projectId,
+                                                     @Param("completed") MilestoneStatus completed,
+                                                     @Param("today") LocalDate today);
+
+    // Progress for every project of a client in one round trip, including projects without milestones
+    @Query("SELECT p.id AS projectId, p.title AS projectTitle, COUNT(m) AS totalMilestones, " +
+           "COALESCE(SUM(CASE WHEN m.status = :completed THEN 1 ELSE 0 END), 0) AS completedMilestones, " +
+           "COALESCE(SUM(CASE WHEN m.status <> :completed AND m.dueDate < :today THEN 1 ELSE 0 END), 0) AS overdueMilestones, " +
+           "COALESCE(SUM(CASE WHEN m.status = :completed THEN m.amount END), 0) AS completedAmount, " +
+           "COALESCE(SUM(CASE WHEN m.status <> :completed THEN m.amount END), 0) AS remainingAmount " +
+           "FROM Project p LEFT JOIN p.milestones m WHERE p.clientId = :clientId " +
+           "GROUP BY p.id, p.title, p.createdAt ORDER BY p.createdAt DESC")
+    List<MilestoneProgress> summarizeByClientId(@Param("clientId") Long clientId,
+                                                @Param("completed") MilestoneStatus completed,
+                                                @Param("today") LocalDate today);
+
+    /**
+     * Projection for aggregated milestone progress, one row per project
+     */
+    interface MilestoneProgress {
+        Long getProjectId();
+
+        String getProjectTitle();
+
+        Long getTotalMilestones();
+
+        Long getCompletedMilestones();
+
+        Long getOverdueMilestones();
+
+        BigDecimal getCompletedAmount();
+
+        BigDecimal getRemainingAmount();
+    }
+}
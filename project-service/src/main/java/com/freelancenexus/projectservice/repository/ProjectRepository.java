@@ -2,12 +2,19 @@ package com.freelancenexus.projectservice.repository;
 
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.ProjectStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -18,15 +25,109 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     List<Project> findByCategory(String category);
 
-    @Query("SELECT p FROM Project p WHERE p.status = :status AND " +
-           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Project> searchByKeywordAndStatus(@Param("keyword") String keyword, 
-                                           @Param("status") ProjectStatus status);
+    // Full-text match on the trigger-maintained search_vector (GIN indexed), best matches first
+    @Query(value = "SELECT p.* FROM projects p, websearch_to_tsquery('english', :keyword) q " +
+                   "WHERE p.status = :status AND p.search_vector @@ q " +
+                   "ORDER BY ts_rank_cd(p.search_vector, q) DESC, p.created_at DESC",
+           nativeQuery = true)
+    List<Project> searchByKeywordAndStatus(@Param("keyword") String keyword,
+                                           @Param("status") String status);
+
+    @Query(value = "SELECT p.* FROM projects p, websearch_to_tsquery('english', :keyword) q " +
+                   "WHERE p.status = :status AND p.search_vector @@ q " +
+                   "ORDER BY ts_rank_cd(p.search_vector, q) DESC, p.created_at DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Project> searchRankedByKeywordAndStatus(@Param("keyword") String keyword,
+                                                 @Param("status") String status,
+                                                 @Param("limit") int limit);
+
+    @Query(value = "SELECT p.category AS value, COUNT(*) AS count FROM projects p " +
+                   "WHERE p.status = :status AND p.search_vector @@ websearch_to_tsquery('english', :keyword) " +
+                   "AND p.category IS NOT NULL " +
+                   "GROUP BY p.category ORDER BY count DESC",
+           nativeQuery = true)
+    List<FacetCount> countCategoryFacets(@Param("keyword") String keyword,
+                                         @Param("status") String status);
+
+    @Query(value = "SELECT s.skill AS value, COUNT(*) AS count FROM projects p " +
+                   "CROSS JOIN LATERAL unnest(p.skills) AS s(skill) " +
+                   "WHERE p.status = :status AND p.search_vector @@ websearch_to_tsquery('english', :keyword) " +
+                   "GROUP BY s.skill ORDER BY count DESC LIMIT :limit",
+           nativeQuery = true)
+    List<FacetCount> countSkillFacets(@Param("keyword") String keyword,
+                                      @Param("status") String status,
+                                      @Param("limit") int limit);
 
     @Query("SELECT p FROM Project p WHERE p.status = 'OPEN' ORDER BY p.createdAt DESC")
     List<Project> findAllOpenProjects();
 
+    // Skill queries run against the GIN-indexed, lower-cased skill_tags array
+    @Query(value = "SELECT p.* FROM projects p WHERE p.status = 'OPEN' " +
+                   "AND p.skill_tags && CAST(:skillTags AS text[]) ORDER BY p.created_at DESC",
+           nativeQuery = true)
+    List<Project> findOpenProjectsWithAnySkill(@Param("skillTags") String[] skillTags);
+
+    @Query(value = "SELECT p.* FROM projects p WHERE p.status = 'OPEN' " +
+                   "AND p.skill_tags @> CAST(:skillTags AS text[]) ORDER BY p.created_at DESC",
+           nativeQuery = true)
+    List<Project> findOpenProjectsWithAllSkills(@Param("skillTags") String[] skillTags);
+
     @Query("SELECT p FROM Project p WHERE p.assignedFreelancer = :freelancerId")
     List<Project> findByAssignedFreelancer(@Param("freelancerId") Long freelancerId);
-}
\ No newline at end of file
+
+    // ==================== Keyset pagination (createdAt DESC, id DESC) ====================
+
+    @Query("SELECT p FROM Project p WHERE " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @Query("SELECT p FROM Project p WHERE p.status = :status AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findPageByStatusAfter(@Param("status") ProjectStatus status,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query("SELECT p FROM Project p WHERE p.category = :category AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findPageByCategoryAfter(@Param("category") String category,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query(value = "SELECT p.* FROM projects p WHERE p.status = :status AND " +
+                   "p.search_vector @@ websearch_to_tsquery('english', :keyword) AND " +
+                   "(p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id)) " +
+                   "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Project> searchPageByKeywordAndStatusAfter(@Param("keyword") String keyword,
+                                                    @Param("status") String status,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    @Param("limit") int limit);
+
+    // ==================== Streaming export ====================
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    Stream<Project> streamAll();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p FROM Project p WHERE p.status = :status ORDER BY p.id")
+    Stream<Project> streamByStatus(@Param("status") ProjectStatus status);
+
+    /**
+     * Projection for facet counts (value -> number of matching projects)
+     */
+    interface FacetCount {
+        String getValue();
+
+        Long getCount();
+    }
+}
@@ -0,0 +1,13 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.ProjectSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectSummaryRepository extends JpaRepository<ProjectSummary, Long> {
+
+    Optional<ProjectSummary> findByProjectId(Long projectId);
+}
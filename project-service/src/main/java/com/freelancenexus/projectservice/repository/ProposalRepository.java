@@ -1,12 +1,17 @@
 package com.freelancenexus.projectservice.repository;
 
+import com.freelancenexus.projectservice.dto.ProposalDTO;
 import com.freelancenexus.projectservice.model.Proposal;
 import com.freelancenexus.projectservice.model.ProposalStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,10 +26,74 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
 
     Optional<Proposal> findByProjectIdAndFreelancerId(Long projectId, Long freelancerId);
 
-    @Query("SELECT p FROM Proposal p WHERE p.project.id = :projectId ORDER BY p.aiScore DESC, p.submittedAt ASC")
-    List<Proposal> findByProjectIdOrderByAiScoreDesc(@Param("projectId") Long projectId);
+    // Listing projection: proposal columns plus the project title in one joined SELECT, no entities loaded
+    String SELECT_PROPOSAL_DTO = "SELECT new com.freelancenexus.projectservice.dto.ProposalDTO(" +
+            "p.id, pr.id, pr.title, p.freelancerId, p.coverLetter, p.proposedBudget, p.deliveryDays, " +
+            "p.aiScore, p.aiRank, p.status, p.submittedAt, p.updatedAt) FROM Proposal p JOIN p.project pr ";
+
+    @Query(SELECT_PROPOSAL_DTO + "WHERE p.id = :id")
+    Optional<ProposalDTO> findDTOById(@Param("id") Long id);
+
+    @Query(SELECT_PROPOSAL_DTO + "WHERE pr.id = :projectId ORDER BY p.submittedAt ASC")
+    List<ProposalDTO> findDTOsByProjectId(@Param("projectId") Long projectId);
+
+    @Query(SELECT_PROPOSAL_DTO + "WHERE p.freelancerId = :freelancerId ORDER BY p.submittedAt DESC")
+    List<ProposalDTO> findDTOsByFreelancerId(@Param("freelancerId") Long freelancerId);
+
+    // Served from idx_proposals_project_ai_score; unscored proposals sort last
+    @Query(SELECT_PROPOSAL_DTO + "WHERE pr.id = :projectId ORDER BY p.aiScore DESC NULLS LAST, p.submittedAt ASC")
+    List<ProposalDTO> findRankedDTOsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT p FROM Proposal p JOIN FETCH p.project WHERE p.id = :id")
+    Optional<Proposal> findByIdWithProject(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Proposal p SET p.aiScore = :aiScore WHERE p.id = :id")
+    int updateAiScore(@Param("id") Long id, @Param("aiScore") BigDecimal aiScore);
+
+    // Writes every rank for a project in one statement; ids and ranks are parallel arrays
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE proposals p SET ai_rank = s.ai_rank, updated_at = now() " +
+                   "FROM unnest(CAST(:ids AS bigint[]), CAST(:ranks AS int[])) AS s(id, ai_rank) " +
+                   "WHERE p.id = s.id AND p.project_id = :projectId",
+           nativeQuery = true)
+    int updateAiRanks(@Param("projectId") Long projectId,
+                      @Param("ids") Long[] ids,
+                      @Param("ranks") Integer[] ranks);
 
     boolean existsByProjectIdAndFreelancerId(Long projectId, Long freelancerId);
 
     long countByProjectId(Long projectId);
-}
\ No newline at end of file
+
+    @Query("SELECT p.project.id AS projectId, COUNT(p) AS proposalCount FROM Proposal p " +
+           "WHERE p.project.id IN :projectIds GROUP BY p.project.id")
+    List<ProposalCount> countByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // Rejects every other pending proposal in one statement and returns who was rejected
+    @Query(value = "UPDATE proposals SET status = 'REJECTED', updated_at = now() " +
+                   "WHERE project_id = :projectId AND status = 'PENDING' AND id <> :acceptedId " +
+                   "RETURNING id AS \"proposalId\", freelancer_id AS \"freelancerId\"",
+           nativeQuery = true)
+    List<RejectedProposal> rejectOtherPendingProposals(@Param("projectId") Long projectId,
+                                                       @Param("acceptedId") Long acceptedId);
+
+    /**
+     * Projection for grouped proposal counts, one row per project that has proposals
+     */
+    interface ProposalCount {
+        Long getProjectId();
+
+        Long getProposalCount();
+    }
+
+    /**
+     * Projection for proposals rejected in bulk when another proposal is accepted
+     */
+    interface RejectedProposal {
+        Long getProposalId();
+
+        Long getFreelancerId();
+    }
+}
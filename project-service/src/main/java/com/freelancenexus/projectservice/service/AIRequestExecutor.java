@@ -0,0 +1,102 @@
+package com.freelancenexus.projectservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs AI request work on its own aiRequestTaskExecutor pool instead of servlet threads or the
+ * background AI pool, with a bounded number of calls in flight and a per-call deadline. Calls
+ * over the limit fail fast.
+ */
+@Component
+@Slf4j
+public class AIRequestExecutor {
+
+    private final TaskExecutor aiRequestTaskExecutor; // resolved by name to the bean in AsyncConfig
+    private final int maxInFlight;
+    private final Semaphore permits;
+
+    public AIRequestExecutor(TaskExecutor aiRequestTaskExecutor,
+                             @Value("${ai.concurrency.max-in-flight:8}") int maxInFlight) {
+        this.aiRequestTaskExecutor = aiRequestTaskExecutor;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Run the task asynchronously. The returned future fails with {@link AICapacityExceededException}
+     * when the limit is reached and with a TimeoutException once the deadline passes.
+     * A timed-out task keeps its permit until it actually finishes.
+     */
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task, Duration deadline) {
+        if (!permits.tryAcquire()) {
+            log.warn("Rejecting AI request {}: {} calls already in flight", operation, inFlight());
+            return CompletableFuture.failedFuture(new AICapacityExceededException(operation));
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.get();
+                } finally {
+                    permits.release();
+                }
+            }, aiRequestTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            log.warn("AI executor rejected request {}", operation);
+            return CompletableFuture.failedFuture(new AICapacityExceededException(operation));
+        }
+
+        return future.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Take an in-flight slot now, failing with {@link AICapacityExceededException} when none is free,
+     * for work that starts later on another thread. Closing the permit releases the slot.
+     */
+    public Permit acquire(String operation) {
+        if (!permits.tryAcquire()) {
+            log.warn("Rejecting AI request {}: {} calls already in flight", operation, inFlight());
+            throw new AICapacityExceededException(operation);
+        }
+        return new Permit(permits);
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public static final class Permit implements AutoCloseable {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    public static class AICapacityExceededException extends RuntimeException {
+        public AICapacityExceededException(String operation) {
+            super("Too many concurrent AI requests, try again later (" + operation + ")");
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.freelancenexus.projectservice.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.*;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.model.SummaryStatus;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
 
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,40 +26,110 @@ public class AIService {
     private final GeminiIntegrationService geminiService;
     private final ProjectRepository projectRepository;
     private final ProposalRepository proposalRepository;
-    private final ObjectMapper objectMapper;
+    private final ProjectMatchingEngine matchingEngine;
+    private final ProposalRankingPipeline rankingPipeline;
+    private final ProposalRankingCache rankingCache;
+
+    // Pre-ranked candidates sent to Gemini, and results returned per recommendation call
+    private static final int RECOMMENDATION_CANDIDATES = 20;
+    private static final int RECOMMENDATION_RESULTS = 5;
 
     /**
      * Recommend projects for a freelancer based on their skills and profile
      */
     public List<AIRecommendationDTO> recommendProjectsForFreelancer(Long freelancerId, List<String> freelancerSkills, String freelancerBio) {
+        List<ProjectMatchingEngine.ScoredProject> candidates;
         try {
             log.info("Getting AI recommendations for freelancer: {}", freelancerId);
 
-            // Get all open projects
-            List<Project> openProjects = projectRepository.findAllOpenProjects();
-            
-            if (openProjects.isEmpty()) {
-                log.info("No open projects available");
-                return Collections.emptyList();
-            }
+            // Pre-rank every open project locally; only the best candidates go to Gemini
+            candidates = matchingEngine.rankProjects(freelancerSkills, RECOMMENDATION_CANDIDATES);
+        } catch (Exception e) {
+            log.error("Error ranking open projects", e);
+            return Collections.emptyList();
+        }
+
+        if (candidates.isEmpty()) {
+            log.info("No open projects available");
+            return Collections.emptyList();
+        }
+
+        try {
+            List<Project> candidateProjects = candidates.stream()
+                    .map(ProjectMatchingEngine.ScoredProject::getProject)
+                    .collect(Collectors.toList());
 
             // Build prompt for AI
-            String prompt = buildRecommendationPrompt(freelancerSkills, freelancerBio, openProjects);
+            String prompt = buildRecommendationPrompt(freelancerSkills, freelancerBio, candidateProjects);
             
             // Call Gemini AI
             JsonNode aiResponse = geminiService.callGeminiForJson(prompt);
             
             // Parse and return recommendations
-            return parseRecommendations(aiResponse, openProjects);
+            List<AIRecommendationDTO> recommendations = parseRecommendations(aiResponse, candidateProjects);
+            if (!recommendations.isEmpty()) {
+                return recommendations;
+            }
+            log.warn("Gemini returned no usable recommendations for freelancer: {}", freelancerId);
 
         } catch (Exception e) {
             log.error("Error getting AI recommendations", e);
-            return fallbackRecommendations(freelancerId, freelancerSkills);
+        }
+        return fallbackRecommendations(candidates);
+    }
+
+    /**
+     * Streaming variant of {@link #recommendProjectsForFreelancer}: each recommendation is passed to
+     * the consumer as soon as Gemini has generated it. Falls back to local matches when Gemini
+     * delivers nothing usable.
+     */
+    public void streamRecommendationsForFreelancer(Long freelancerId, List<String> freelancerSkills, String freelancerBio,
+                                                   Consumer<AIRecommendationDTO> onRecommendation) {
+        List<ProjectMatchingEngine.ScoredProject> candidates;
+        try {
+            log.info("Streaming AI recommendations for freelancer: {}", freelancerId);
+            candidates = matchingEngine.rankProjects(freelancerSkills, RECOMMENDATION_CANDIDATES);
+        } catch (Exception e) {
+            log.error("Error ranking open projects", e);
+            return;
+        }
+
+        if (candidates.isEmpty()) {
+            log.info("No open projects available");
+            return;
+        }
+
+        List<Project> candidateProjects = candidates.stream()
+                .map(ProjectMatchingEngine.ScoredProject::getProject)
+                .collect(Collectors.toList());
+        Map<Long, Project> projectMap = candidateProjects.stream()
+                .collect(Collectors.toMap(Project::getId, p -> p));
+
+        int[] delivered = {0};
+        geminiService.streamGeminiJsonArray(buildRecommendationPrompt(freelancerSkills, freelancerBio, candidateProjects),
+                null, node -> {
+                    AIRecommendationDTO dto;
+                    try {
+                        dto = toRecommendation(node, projectMap);
+                    } catch (RuntimeException e) {
+                        log.warn("Skipping malformed streamed recommendation: {}", node);
+                        return;
+                    }
+                    if (dto != null) {
+                        delivered[0]++;
+                        onRecommendation.accept(dto);
+                    }
+                });
+
+        if (delivered[0] == 0) {
+            log.warn("Gemini streamed no usable recommendations for freelancer: {}", freelancerId);
+            fallbackRecommendations(candidates).forEach(onRecommendation);
         }
     }
 
     /**
-     * Rank proposals for a project using AI
+     * Rank proposals for a project using AI. A complete ranking is reused until a proposal is
+     * added or removed or the project changes; only then is Gemini called again.
      */
     public List<RankedProposalDTO> rankProposalsForProject(Long projectId) {
         try {
@@ -74,17 +145,18 @@ public class AIService {
                 return Collections.emptyList();
             }
 
-            // Build prompt for AI
-            String prompt = buildRankingPrompt(project, proposals);
-            
-            // Call Gemini AI
-            JsonNode aiResponse = geminiService.callGeminiForJson(prompt);
-            
-            // Parse rankings and update proposal scores
-            List<RankedProposalDTO> rankedProposals = parseRankings(aiResponse, proposals);
+            List<RankedProposalDTO> cached = rankingCache.get(project, proposals);
+            if (cached != null) {
+                log.info("Serving cached ranking of {} proposals for project: {}", cached.size(), projectId);
+                return cached;
+            }
+
+            // Rank in token-budgeted batches and merge into one global order
+            List<RankedProposalDTO> rankedProposals = rankingPipeline.rank(project, proposals);
             
-            // Update AI scores in database
-            updateProposalScores(rankedProposals);
+            // Persist the global order; ai_score stays the absolute rubric score from ProposalScoringService
+            updateProposalRanks(projectId, rankedProposals);
+            rankingCache.put(project, proposals, rankedProposals);
             
             return rankedProposals;
 
@@ -104,11 +176,7 @@ public class AIService {
             Project project = projectRepository.findById(projectId)
                     .orElseThrow(() -> new RuntimeException("Project not found"));
 
-            String prompt = buildSummaryPrompt(project);
-            
-            JsonNode aiResponse = geminiService.callGeminiForJson(prompt);
-            
-            return parseSummary(aiResponse, projectId);
+            return summarizeProject(project);
 
         } catch (Exception e) {
             log.error("Error generating project summary", e);
@@ -116,9 +184,22 @@ public class AIService {
         }
     }
 
+    /**
+     * Ask Gemini for a summary of the given project; summary is null when the response could not be parsed
+     */
+    public ProjectSummaryDTO summarizeProject(Project project) {
+        String prompt = buildSummaryPrompt(project);
+        
+        JsonNode aiResponse = geminiService.callGeminiForJson(prompt, GeminiResponseCache.projectTag(project.getId()));
+        
+        ProjectSummaryDTO dto = parseSummary(aiResponse, project.getId());
+        dto.setStatus(dto.getSummary() != null ? SummaryStatus.READY : SummaryStatus.FAILED);
+        return dto;
+    }
+
     // ==================== Private Helper Methods ====================
 
-    private String buildRecommendationPrompt(List<String> skills, String bio, List<Project> projects) {
+    static String buildRecommendationPrompt(List<String> skills, String bio, List<Project> projects) {
         StringBuilder prompt = new StringBuilder();
         prompt.append("You are an AI assistant helping match freelancers with projects.\n\n");
         prompt.append("Freelancer Profile:\n");
@@ -132,7 +213,7 @@ public class AIService {
             prompt.append("   Category: ").append(p.getCategory()).append("\n");
             prompt.append("   Budget: $").append(p.getBudgetMin()).append(" - $").append(p.getBudgetMax()).append("\n");
             prompt.append("   Duration: ").append(p.getDurationDays()).append(" days\n");
-            prompt.append("   Required Skills: ").append(p.getRequiredSkills()).append("\n");
+            prompt.append("   Required Skills: ").append(String.join(", ", p.getRequiredSkills())).append("\n");
             prompt.append("   Description: ").append(p.getDescription().substring(0, Math.min(200, p.getDescription().length()))).append("...\n\n");
         }
 
@@ -151,42 +232,6 @@ public class AIService {
         return prompt.toString();
     }
 
-    private String buildRankingPrompt(Project project, List<Proposal> proposals) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("You are an AI assistant helping rank freelancer proposals for a project.\n\n");
-        prompt.append("Project Details:\n");
-        prompt.append("Title: ").append(project.getTitle()).append("\n");
-        prompt.append("Description: ").append(project.getDescription()).append("\n");
-        prompt.append("Budget Range: $").append(project.getBudgetMin()).append(" - $").append(project.getBudgetMax()).append("\n");
-        prompt.append("Duration: ").append(project.getDurationDays()).append(" days\n");
-        prompt.append("Required Skills: ").append(project.getRequiredSkills()).append("\n\n");
-
-        prompt.append("Proposals:\n");
-        for (int i = 0; i < proposals.size(); i++) {
-            Proposal prop = proposals.get(i);
-            prompt.append(String.format("%d. Proposal ID: %d\n", i + 1, prop.getId()));
-            prompt.append("   Freelancer ID: ").append(prop.getFreelancerId()).append("\n");
-            prompt.append("   Proposed Budget: $").append(prop.getProposedBudget()).append("\n");
-            prompt.append("   Delivery Days: ").append(prop.getDeliveryDays()).append("\n");
-            prompt.append("   Cover Letter: ").append(prop.getCoverLetter()).append("\n\n");
-        }
-
-        prompt.append("\nRank these proposals from best to worst. For each proposal, provide:\n");
-        prompt.append("1. proposalId\n");
-        prompt.append("2. aiScore (0-100, higher is better)\n");
-        prompt.append("3. rank (1 being best)\n");
-        prompt.append("4. aiAnalysis (brief analysis)\n");
-        prompt.append("5. strengths (array of positive points)\n");
-        prompt.append("6. concerns (array of potential issues)\n\n");
-        prompt.append("Consider: budget alignment, delivery time, cover letter quality, professionalism.\n\n");
-        prompt.append("Return your response as a JSON array:\n");
-        prompt.append("```json\n");
-        prompt.append("[{\"proposalId\": 1, \"aiScore\": 95, \"rank\": 1, \"aiAnalysis\": \"...\", \"strengths\": [...], \"concerns\": [...]}]\n");
-        prompt.append("```");
-
-        return prompt.toString();
-    }
-
     private String buildSummaryPrompt(Project project) {
         return String.format("""
             You are an AI assistant summarizing a freelance project.
@@ -223,7 +268,7 @@ public class AIService {
             project.getBudgetMin(),
             project.getBudgetMax(),
             project.getDurationDays(),
-            project.getRequiredSkills()
+            String.join(", ", project.getRequiredSkills())
         );
     }
 
@@ -236,23 +281,8 @@ public class AIService {
                         .collect(Collectors.toMap(Project::getId, p -> p));
 
                 for (JsonNode node : response) {
-                    Long projectId = node.get("projectId").asLong();
-                    Project project = projectMap.get(projectId);
-                    
-                    if (project != null) {
-                        AIRecommendationDTO dto = new AIRecommendationDTO();
-                        dto.setProjectId(projectId);
-                        dto.setProjectTitle(project.getTitle());
-                        dto.setCategory(project.getCategory());
-                        dto.setBudgetMin(project.getBudgetMin());
-                        dto.setBudgetMax(project.getBudgetMax());
-                        dto.setDurationDays(project.getDurationDays());
-                        dto.setRequiredSkills(parseSkills(project.getRequiredSkills()));
-                        dto.setMatchScore(BigDecimal.valueOf(node.get("matchScore").asDouble()));
-                        dto.setMatchReason(node.get("matchReason").asText());
-                        dto.setMatchingSkills(parseJsonArray(node.get("matchingSkills")));
-                        dto.setSkillMatchPercentage(node.get("skillMatchPercentage").asInt());
-                        
+                    AIRecommendationDTO dto = toRecommendation(node, projectMap);
+                    if (dto != null) {
                         recommendations.add(dto);
                     }
                 }
@@ -264,42 +294,29 @@ public class AIService {
         return recommendations;
     }
 
-    private List<RankedProposalDTO> parseRankings(JsonNode response, List<Proposal> proposals) {
-        List<RankedProposalDTO> rankings = new ArrayList<>();
-        
-        try {
-            if (response.isArray()) {
-                Map<Long, Proposal> proposalMap = proposals.stream()
-                        .collect(Collectors.toMap(Proposal::getId, p -> p));
-
-                for (JsonNode node : response) {
-                    Long proposalId = node.get("proposalId").asLong();
-                    Proposal proposal = proposalMap.get(proposalId);
-                    
-                    if (proposal != null) {
-                        RankedProposalDTO dto = new RankedProposalDTO();
-                        dto.setId(proposalId);
-                        dto.setFreelancerId(proposal.getFreelancerId());
-                        dto.setCoverLetter(proposal.getCoverLetter());
-                        dto.setProposedBudget(proposal.getProposedBudget());
-                        dto.setDeliveryDays(proposal.getDeliveryDays());
-                        dto.setAiScore(BigDecimal.valueOf(node.get("aiScore").asDouble()));
-                        dto.setRank(node.get("rank").asInt());
-                        dto.setAiAnalysis(node.get("aiAnalysis").asText());
-                        dto.setStrengths(parseJsonArray(node.get("strengths")));
-                        dto.setConcerns(parseJsonArray(node.get("concerns")));
-                        dto.setSubmittedAt(proposal.getSubmittedAt());
-                        
-                        rankings.add(dto);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error parsing rankings", e);
+    /**
+     * One recommendation from a Gemini array element, or null when it names an unknown project
+     */
+    private AIRecommendationDTO toRecommendation(JsonNode node, Map<Long, Project> projectMap) {
+        Long projectId = node.get("projectId").asLong();
+        Project project = projectMap.get(projectId);
+        if (project == null) {
+            return null;
         }
-        
-        rankings.sort(Comparator.comparing(RankedProposalDTO::getRank));
-        return rankings;
+
+        AIRecommendationDTO dto = new AIRecommendationDTO();
+        dto.setProjectId(projectId);
+        dto.setProjectTitle(project.getTitle());
+        dto.setCategory(project.getCategory());
+        dto.setBudgetMin(project.getBudgetMin());
+        dto.setBudgetMax(project.getBudgetMax());
+        dto.setDurationDays(project.getDurationDays());
+        dto.setRequiredSkills(new ArrayList<>(project.getRequiredSkills()));
+        dto.setMatchScore(BigDecimal.valueOf(node.get("matchScore").asDouble()));
+        dto.setMatchReason(node.get("matchReason").asText());
+        dto.setMatchingSkills(GeminiIntegrationService.parseJsonArray(node.get("matchingSkills")));
+        dto.setSkillMatchPercentage(node.get("skillMatchPercentage").asInt());
+        return dto;
     }
 
     private ProjectSummaryDTO parseSummary(JsonNode response, Long projectId) {
@@ -311,7 +328,7 @@ public class AIService {
             dto.setKeyRequirements(response.get("keyRequirements").asText());
             dto.setIdealCandidate(response.get("idealCandidate").asText());
             dto.setEstimatedComplexity(response.get("estimatedComplexity").asText());
-            dto.setSuggestedSkills(parseJsonArray(response.get("suggestedSkills")));
+            dto.setSuggestedSkills(GeminiIntegrationService.parseJsonArray(response.get("suggestedSkills")));
         } catch (Exception e) {
             log.error("Error parsing summary", e);
         }
@@ -319,42 +336,44 @@ public class AIService {
         return dto;
     }
 
-    private void updateProposalScores(List<RankedProposalDTO> rankings) {
-        for (RankedProposalDTO ranking : rankings) {
-            try {
-                Proposal proposal = proposalRepository.findById(ranking.getId()).orElse(null);
-                if (proposal != null) {
-                    proposal.setAiScore(ranking.getAiScore());
-                    proposalRepository.save(proposal);
-                }
-            } catch (Exception e) {
-                log.error("Error updating proposal score for ID: {}", ranking.getId(), e);
-            }
+    private void updateProposalRanks(Long projectId, List<RankedProposalDTO> rankings) {
+        if (rankings.isEmpty()) {
+            return;
         }
-    }
 
-    private List<String> parseSkills(String skillsJson) {
+        // Batch scores are only comparable within a batch, so only the global rank is stored
+        Long[] ids = rankings.stream().map(RankedProposalDTO::getId).toArray(Long[]::new);
+        Integer[] ranks = rankings.stream().map(RankedProposalDTO::getRank).toArray(Integer[]::new);
         try {
-            JsonNode node = objectMapper.readTree(skillsJson);
-            List<String> skills = new ArrayList<>();
-            node.forEach(skill -> skills.add(skill.asText()));
-            return skills;
+            int updated = proposalRepository.updateAiRanks(projectId, ids, ranks);
+            log.info("Updated AI ranks for {} proposals of project: {}", updated, projectId);
         } catch (Exception e) {
-            return Arrays.asList(skillsJson.split(","));
-        }
-    }
-
-    private List<String> parseJsonArray(JsonNode arrayNode) {
-        List<String> result = new ArrayList<>();
-        if (arrayNode != null && arrayNode.isArray()) {
-            arrayNode.forEach(node -> result.add(node.asText()));
+            log.error("Error updating proposal ranks for project: {}", projectId, e);
         }
-        return result;
     }
 
     // Fallback methods when AI fails
-    private List<AIRecommendationDTO> fallbackRecommendations(Long freelancerId, List<String> skills) {
-        return Collections.emptyList();
+    private List<AIRecommendationDTO> fallbackRecommendations(List<ProjectMatchingEngine.ScoredProject> candidates) {
+        List<AIRecommendationDTO> recommendations = new ArrayList<>();
+        for (ProjectMatchingEngine.ScoredProject candidate : candidates.subList(0, Math.min(RECOMMENDATION_RESULTS, candidates.size()))) {
+            Project project = candidate.getProject();
+            AIRecommendationDTO dto = new AIRecommendationDTO();
+            dto.setProjectId(project.getId());
+            dto.setProjectTitle(project.getTitle());
+            dto.setCategory(project.getCategory());
+            dto.setBudgetMin(project.getBudgetMin());
+            dto.setBudgetMax(project.getBudgetMax());
+            dto.setDurationDays(project.getDurationDays());
+            dto.setRequiredSkills(new ArrayList<>(project.getRequiredSkills()));
+            dto.setMatchScore(BigDecimal.valueOf(candidate.getScore() * 100).setScale(2, RoundingMode.HALF_UP));
+            dto.setMatchReason(candidate.getMatchingSkills().isEmpty()
+                    ? "Recently posted project"
+                    : "Matches your skills: " + String.join(", ", candidate.getMatchingSkills()));
+            dto.setMatchingSkills(candidate.getMatchingSkills());
+            dto.setSkillMatchPercentage(candidate.getSkillMatchPercentage());
+            recommendations.add(dto);
+        }
+        return recommendations;
     }
 
     private List<RankedProposalDTO> fallbackRanking(Long projectId) {
@@ -365,6 +384,7 @@ public class AIService {
         ProjectSummaryDTO dto = new ProjectSummaryDTO();
         dto.setProjectId(projectId);
         dto.setSummary("Summary generation failed");
+        dto.setStatus(SummaryStatus.FAILED);
         return dto;
     }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.freelancenexus.projectservice.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.config.GeminiConfig;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +14,15 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -22,12 +32,32 @@ public class GeminiIntegrationService {
     private final WebClient geminiWebClient;
     private final GeminiConfig geminiConfig;
     private final ObjectMapper objectMapper;
+    private final GeminiResponseCache responseCache;
+
+    // Envelope parsing streams tokens independently of the mapper's configuration; the factory's own
+    // codec only materialises the small error object as a tree
+    private static final JsonFactory JSON_FACTORY = new MappingJsonFactory();
 
     /**
      * Call Gemini API with a prompt and return the response text
      */
     public String callGemini(String prompt) {
+        return callGemini(prompt, null);
+    }
+
+    /**
+     * Call Gemini API, serving repeated prompts from the response cache.
+     * Successful responses are cached under the given tag (may be null) so they can be invalidated together.
+     */
+    public String callGemini(String prompt, String cacheTag) {
         try {
+            String cacheKey = cacheKey(prompt);
+            String cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                log.info("Serving Gemini response from cache for prompt length: {}", prompt.length());
+                return cached;
+            }
+
             log.info("Calling Gemini API with prompt length: {}", prompt.length());
 
             Map<String, Object> requestBody = buildGeminiRequest(prompt);
@@ -48,7 +78,11 @@ public class GeminiIntegrationService {
                     })
                     .block();
 
-            return extractTextFromResponse(response);
+            GeminiResult result = parseResponse(response);
+            if (result.successful) {
+                responseCache.put(cacheKey, result.text, cacheTag);
+            }
+            return result.text;
 
         } catch (Exception e) {
             log.error("Error calling Gemini API", e);
@@ -60,24 +94,120 @@ public class GeminiIntegrationService {
      * Call Gemini API with JSON response expected
      */
     public JsonNode callGeminiForJson(String prompt) {
+        return callGeminiForJson(prompt, null);
+    }
+
+    /**
+     * Call Gemini API with JSON response expected, caching under the given tag
+     */
+    public JsonNode callGeminiForJson(String prompt, String cacheTag) {
         try {
-            String response = callGemini(prompt);
-            // Extract JSON from markdown code blocks if present
-            String jsonStr = response;
-            if (response.contains("```json")) {
-                jsonStr = response.substring(response.indexOf("```json") + 7);
-                jsonStr = jsonStr.substring(0, jsonStr.indexOf("```"));
-            } else if (response.contains("```")) {
-                jsonStr = response.substring(response.indexOf("```") + 3);
-                jsonStr = jsonStr.substring(0, jsonStr.indexOf("```"));
-            }
-            return objectMapper.readTree(jsonStr.trim());
+            String response = callGemini(prompt, cacheTag);
+            return objectMapper.readTree(extractJsonPayload(response));
         } catch (Exception e) {
             log.error("Error parsing JSON from Gemini response", e);
             return objectMapper.createObjectNode();
         }
     }
 
+    /**
+     * Call Gemini's streaming endpoint for a prompt that asks for a JSON array, handing each
+     * array element to the consumer as soon as it has been generated. Returns the number of
+     * elements delivered; a cached response is replayed through the same path.
+     */
+    public int streamGeminiJsonArray(String prompt, String cacheTag, Consumer<JsonNode> onElement) {
+        JsonArrayStreamParser arrayParser = new JsonArrayStreamParser(objectMapper, onElement);
+        try {
+            String cacheKey = cacheKey(prompt);
+            String cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                log.info("Replaying Gemini response from cache for prompt length: {}", prompt.length());
+                arrayParser.feed(cached);
+                return arrayParser.emitted();
+            }
+
+            log.info("Streaming Gemini API call with prompt length: {}", prompt.length());
+            String url = String.format("/%s:streamGenerateContent?alt=sse&key=%s",
+                    geminiConfig.getModel(), geminiConfig.getApiKey());
+
+            StringBuilder text = new StringBuilder();
+            geminiWebClient.post()
+                    .uri(url)
+                    .bodyValue(buildGeminiRequest(prompt))
+                    .retrieve()
+                    .bodyToFlux(String.class)
+                    .timeout(Duration.ofMillis(geminiConfig.getTimeout()))
+                    .doOnNext(event -> {
+                        // Chunks without text (e.g. the final usage metadata) carry nothing to parse
+                        GeminiResult chunk = parseResponse(event);
+                        if (!chunk.successful) {
+                            return;
+                        }
+                        text.append(chunk.text);
+                        try {
+                            arrayParser.feed(chunk.text);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .blockLast();
+
+            // Only a fully generated array is worth serving again
+            if (arrayParser.isComplete()) {
+                responseCache.put(cacheKey, text.toString(), cacheTag);
+            }
+        } catch (Exception e) {
+            log.error("Streaming Gemini call failed after {} elements", arrayParser.emitted(), e);
+        }
+        return arrayParser.emitted();
+    }
+
+    /**
+     * The JSON inside the first markdown code fence, or the whole response when there is none.
+     * Only the payload itself is copied.
+     */
+    static String extractJsonPayload(String response) {
+        int start = 0;
+        int end = response.length();
+        int fence = response.indexOf("```");
+        if (fence >= 0) {
+            start = fence + 3;
+            if (response.startsWith("json", start)) {
+                start += 4;
+            }
+            int close = response.indexOf("```", start);
+            if (close >= 0) {
+                end = close;
+            }
+        }
+        while (start < end && Character.isWhitespace(response.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(response.charAt(end - 1))) {
+            end--;
+        }
+        return response.substring(start, end);
+    }
+
+    /**
+     * Text of each element of a JSON array field in a Gemini answer; empty when the field is missing
+     */
+    static List<String> parseJsonArray(JsonNode arrayNode) {
+        List<String> result = new ArrayList<>();
+        if (arrayNode != null && arrayNode.isArray()) {
+            arrayNode.forEach(node -> result.add(node.asText()));
+        }
+        return result;
+    }
+
+    /**
+     * Response cache key for a prompt under the current model and generation config
+     */
+    String cacheKey(String prompt) {
+        return responseCache.fingerprint(geminiConfig.getModel(),
+                new TreeMap<>(buildGenerationConfig()).toString(), prompt);
+    }
+
     /**
      * Build the request body for Gemini API
      */
@@ -91,42 +221,110 @@ public class GeminiIntegrationService {
         
         request.put("contents", new Object[]{content});
         
-        // Configuration for better responses
+        request.put("generationConfig", buildGenerationConfig());
+        
+        return request;
+    }
+
+    /**
+     * Configuration for better responses; part of the response cache key
+     */
+    private Map<String, Object> buildGenerationConfig() {
         Map<String, Object> generationConfig = new HashMap<>();
         generationConfig.put("temperature", 0.7);
         generationConfig.put("topK", 40);
         generationConfig.put("topP", 0.95);
         generationConfig.put("maxOutputTokens", 2048);
-        request.put("generationConfig", generationConfig);
-        
-        return request;
+        return generationConfig;
     }
 
     /**
      * Extract text content from Gemini API response
      */
     private String extractTextFromResponse(String jsonResponse) {
-        try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            
-            if (root.has("error")) {
-                log.error("Gemini API error: {}", root.get("error"));
-                return "Error from API: " + root.get("error").asText();
+        return parseResponse(jsonResponse).text;
+    }
+
+    /**
+     * Pull candidates[0].content.parts[0].text out of a response body with a streaming parser,
+     * skipping everything else without building a tree
+     */
+    private GeminiResult parseResponse(String jsonResponse) {
+        try (JsonParser parser = JSON_FACTORY.createParser(jsonResponse)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return GeminiResult.failure("No response from Gemini API");
             }
-            
-            JsonNode candidates = root.path("candidates");
-            if (candidates.isArray() && candidates.size() > 0) {
-                JsonNode content = candidates.get(0).path("content");
-                JsonNode parts = content.path("parts");
-                if (parts.isArray() && parts.size() > 0) {
-                    return parts.get(0).path("text").asText();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("error".equals(field)) {
+                    String error = describeError(parser.readValueAsTree());
+                    log.error("Gemini API error: {}", error);
+                    return GeminiResult.failure("Error from API: " + error);
+                }
+                if ("candidates".equals(field) && parser.currentToken() == JsonToken.START_ARRAY
+                        && parser.nextToken() == JsonToken.START_OBJECT
+                        && enterObjectField(parser, "content", JsonToken.START_OBJECT)
+                        && enterObjectField(parser, "parts", JsonToken.START_ARRAY)
+                        && parser.nextToken() == JsonToken.START_OBJECT
+                        && enterObjectField(parser, "text", JsonToken.VALUE_STRING)) {
+                    return GeminiResult.success(parser.getText());
                 }
+                parser.skipChildren();
             }
-            
-            return "No response from Gemini API";
+
+            return GeminiResult.failure("No response from Gemini API");
         } catch (Exception e) {
             log.error("Error extracting text from Gemini response", e);
-            return "Error parsing response: " + e.getMessage();
+            return GeminiResult.failure("Error parsing response: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gemini reports failures as {"code": 429, "message": "...", "status": "RESOURCE_EXHAUSTED"};
+     * plain string errors are passed through as-is
+     */
+    private static String describeError(JsonNode error) {
+        if (error == null || !error.isObject()) {
+            return error == null || error.isNull() ? "" : error.asText();
+        }
+        String status = error.path("status").asText("");
+        return error.path("code").asText("")
+                + (status.isEmpty() ? "" : " " + status)
+                + ": " + error.path("message").asText("");
+    }
+
+    /**
+     * Advance within the current object to the named field and its value token; false when the
+     * object ends first or the value has a different type
+     */
+    private static boolean enterObjectField(JsonParser parser, String name, JsonToken expected) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field)) {
+                return value == expected;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static final class GeminiResult {
+        private final String text;
+        private final boolean successful;
+
+        private GeminiResult(String text, boolean successful) {
+            this.text = text;
+            this.successful = successful;
+        }
+
+        private static GeminiResult success(String text) {
+            return new GeminiResult(text, true);
+        }
+
+        private static GeminiResult failure(String text) {
+            return new GeminiResult(text, false);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.freelancenexus.projectservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size- and TTL-bounded cache of successful Gemini response texts, keyed by a SHA-256
+ * fingerprint of model, generation config and prompt. Entries may carry a tag (e.g. a
+ * project) so every response derived from that entity can be dropped when it changes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeminiResponseCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${gemini.cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${gemini.cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private Cache<String, CachedResponse> cache;
+
+    private final Map<String, Set<String>> keysByTag = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                // Runs inside the eviction's atomic operation, so it cannot race with a re-put of the key
+                .evictionListener((String key, CachedResponse value, RemovalCause cause) -> untag(key, value))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gemini.responses");
+    }
+
+    public static String projectTag(Long projectId) {
+        return "project:" + projectId;
+    }
+
+    public String fingerprint(String model, String generationConfig, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(generationConfig.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public String get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        return cached != null ? cached.text : null;
+    }
+
+    public void put(String key, String text, String tag) {
+        // Tag bookkeeping happens under the entry's lock so it always matches the cached value
+        cache.asMap().compute(key, (k, previous) -> {
+            if (previous != null) {
+                untag(k, previous);
+            }
+            if (tag != null) {
+                keysByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(k);
+            }
+            return new CachedResponse(text, tag);
+        });
+    }
+
+    /**
+     * Drop every cached response recorded under the given tag
+     */
+    public void invalidateTag(String tag) {
+        Set<String> keys = keysByTag.remove(tag);
+        if (keys != null && !keys.isEmpty()) {
+            log.debug("Invalidating {} cached Gemini responses for {}", keys.size(), tag);
+            for (String key : keys) {
+                // Skip keys re-put under another tag since the set was read
+                cache.asMap().computeIfPresent(key, (k, cached) -> {
+                    if (!tag.equals(cached.tag)) {
+                        return cached;
+                    }
+                    untag(k, cached);
+                    return null;
+                });
+            }
+        }
+    }
+
+    private void untag(String key, CachedResponse value) {
+        if (value == null || value.tag == null) {
+            return;
+        }
+        keysByTag.computeIfPresent(value.tag, (tag, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static final class CachedResponse {
+        private final String text;
+        private final String tag;
+
+        private CachedResponse(String text, String tag) {
+            this.text = text;
+            this.tag = tag;
+        }
+    }
+}
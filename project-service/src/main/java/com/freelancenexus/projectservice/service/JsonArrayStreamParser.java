@@ -0,0 +1,106 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally parses a JSON array embedded in model output that arrives in chunks.
+ * Text before the opening bracket (prose, a ```json fence) and after the closing bracket is
+ * ignored, and each top-level element is handed to the consumer as soon as it is complete.
+ * Not thread-safe; feed chunks in order from one thread.
+ */
+final class JsonArrayStreamParser {
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<JsonNode> onElement;
+
+    private JsonParser parser;
+    private TokenBuffer element;
+    private int depth;
+    private int emitted;
+    private boolean complete;
+
+    JsonArrayStreamParser(ObjectMapper objectMapper, Consumer<JsonNode> onElement) {
+        this.objectMapper = objectMapper;
+        this.onElement = onElement;
+    }
+
+    /**
+     * Consume the next chunk of text, emitting any elements it completes
+     */
+    void feed(String chunk) throws IOException {
+        if (complete || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        if (parser == null) {
+            int start = chunk.indexOf('[');
+            if (start < 0) {
+                return; // still in the preamble
+            }
+            parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            chunk = chunk.substring(start);
+        }
+
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    int emitted() {
+        return emitted;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!complete && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (depth == 0) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected a JSON array but found " + token);
+                }
+                depth = 1;
+                continue;
+            }
+            if (depth == 1 && token == JsonToken.END_ARRAY) {
+                complete = true;
+                parser.close();
+                return;
+            }
+
+            if (element == null) {
+                element = new TokenBuffer(objectMapper, false);
+            }
+            element.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+
+            if (depth == 1) {
+                emit();
+            }
+        }
+    }
+
+    private void emit() throws IOException {
+        TokenBuffer completed = element;
+        element = null;
+        try (JsonParser elementParser = completed.asParser()) {
+            JsonNode node = objectMapper.readTree(elementParser);
+            emitted++;
+            onElement.accept(node);
+        }
+    }
+}
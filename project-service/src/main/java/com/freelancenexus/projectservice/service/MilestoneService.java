@@ -0,0 +1,180 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ClientMilestoneDashboardDTO;
+import com.freelancenexus.projectservice.dto.MilestoneCreateDTO;
+import com.freelancenexus.projectservice.dto.MilestoneDTO;
+import com.freelancenexus.projectservice.dto.MilestoneProgressDTO;
+import com.freelancenexus.projectservice.model.MilestoneStatus;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectMilestone;
+import com.freelancenexus.projectservice.repository.ProjectMilestoneRepository;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Milestone CRUD and progress reporting. Progress figures come from aggregate queries
+ * rather than loading each project's milestone collection.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MilestoneService {
+
+    private final ProjectMilestoneRepository milestoneRepository;
+    private final ProjectRepository projectRepository;
+
+    @Transactional
+    public MilestoneDTO createMilestone(Long projectId, MilestoneCreateDTO createDTO) {
+        log.info("Creating milestone for project ID: {}", projectId);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found with ID: " + projectId));
+
+        ProjectMilestone milestone = new ProjectMilestone();
+        milestone.setProject(project);
+        applyChanges(milestone, createDTO);
+        milestone.setStatus(MilestoneStatus.PENDING);
+
+        ProjectMilestone saved = milestoneRepository.save(milestone);
+        log.info("Milestone created with ID: {}", saved.getId());
+        return convertToDTO(saved, projectId);
+    }
+
+    public List<MilestoneDTO> getMilestonesByProjectId(Long projectId) {
+        log.info("Fetching milestones for project ID: {}", projectId);
+        return milestoneRepository.findByProjectIdOrderByDueDateAscIdAsc(projectId).stream()
+                .map(milestone -> convertToDTO(milestone, projectId))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public MilestoneDTO updateMilestone(Long id, MilestoneCreateDTO updateDTO) {
+        log.info("Updating milestone ID: {}", id);
+
+        ProjectMilestone milestone = findMilestone(id);
+        if (milestone.getStatus() == MilestoneStatus.COMPLETED) {
+            throw new RuntimeException("Completed milestones cannot be modified");
+        }
+        applyChanges(milestone, updateDTO);
+
+        return convertToDTO(milestoneRepository.save(milestone), milestone.getProject().getId());
+    }
+
+    /**
+     * Move a milestone forward through PENDING, IN_PROGRESS and COMPLETED. Steps may be skipped,
+     * but a milestone never moves back; repeating the current status changes nothing.
+     */
+    @Transactional
+    public MilestoneDTO updateMilestoneStatus(Long id, MilestoneStatus status) {
+        log.info("Updating milestone ID: {} to status: {}", id, status);
+
+        ProjectMilestone milestone = findMilestone(id);
+        if (status == milestone.getStatus()) {
+            return convertToDTO(milestone, milestone.getProject().getId());
+        }
+        if (status.ordinal() < milestone.getStatus().ordinal()) {
+            throw new RuntimeException("Milestone cannot move from " + milestone.getStatus() + " back to " + status);
+        }
+        milestone.setStatus(status);
+        if (status == MilestoneStatus.COMPLETED) {
+            milestone.setCompletedAt(LocalDateTime.now());
+        }
+
+        return convertToDTO(milestoneRepository.save(milestone), milestone.getProject().getId());
+    }
+
+    @Transactional
+    public void deleteMilestone(Long id) {
+        log.info("Deleting milestone ID: {}", id);
+
+        if (!milestoneRepository.existsById(id)) {
+            throw new RuntimeException("Milestone not found with ID: " + id);
+        }
+        milestoneRepository.deleteById(id);
+    }
+
+    /**
+     * Completed and remaining amounts and the overdue count for one project
+     */
+    public MilestoneProgressDTO getProjectProgress(Long projectId) {
+        log.info("Fetching milestone progress for project ID: {}", projectId);
+
+        return milestoneRepository.summarizeByProjectId(projectId, MilestoneStatus.COMPLETED, LocalDate.now())
+                .map(this::toProgressDTO)
+                .orElseGet(() -> new MilestoneProgressDTO(projectId, null, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO));
+    }
+
+    /**
+     * Milestone progress across all of a client's projects, aggregated in one query
+     */
+    public ClientMilestoneDashboardDTO getClientDashboard(Long clientId) {
+        log.info("Fetching milestone dashboard for client ID: {}", clientId);
+
+        List<MilestoneProgressDTO> projects = milestoneRepository
+                .summarizeByClientId(clientId, MilestoneStatus.COMPLETED, LocalDate.now()).stream()
+                .map(this::toProgressDTO)
+                .collect(Collectors.toList());
+
+        ClientMilestoneDashboardDTO dashboard = new ClientMilestoneDashboardDTO();
+        dashboard.setClientId(clientId);
+        dashboard.setProjects(projects);
+        dashboard.setTotalMilestones(projects.stream().mapToLong(MilestoneProgressDTO::getTotalMilestones).sum());
+        dashboard.setCompletedMilestones(projects.stream().mapToLong(MilestoneProgressDTO::getCompletedMilestones).sum());
+        dashboard.setOverdueMilestones(projects.stream().mapToLong(MilestoneProgressDTO::getOverdueMilestones).sum());
+        dashboard.setCompletedAmount(projects.stream().map(MilestoneProgressDTO::getCompletedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        dashboard.setRemainingAmount(projects.stream().map(MilestoneProgressDTO::getRemainingAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        return dashboard;
+    }
+
+    private ProjectMilestone findMilestone(Long id) {
+        return milestoneRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Milestone not found with ID: " + id));
+    }
+
+    private void applyChanges(ProjectMilestone milestone, MilestoneCreateDTO dto) {
+        milestone.setTitle(dto.getTitle());
+        milestone.setDescription(dto.getDescription());
+        milestone.setAmount(dto.getAmount());
+        milestone.setDueDate(dto.getDueDate());
+    }
+
+    private MilestoneProgressDTO toProgressDTO(ProjectMilestoneRepository.MilestoneProgress progress) {
+        return new MilestoneProgressDTO(
+                progress.getProjectId(),
+                progress.getProjectTitle(),
+                valueOf(progress.getTotalMilestones()),
+                valueOf(progress.getCompletedMilestones()),
+                valueOf(progress.getOverdueMilestones()),
+                progress.getCompletedAmount() != null ? progress.getCompletedAmount() : BigDecimal.ZERO,
+                progress.getRemainingAmount() != null ? progress.getRemainingAmount() : BigDecimal.ZERO);
+    }
+
+    private static long valueOf(Long count) {
+        return count != null ? count : 0L;
+    }
+
+    // The project id is passed in so the lazy project proxy is never initialized
+    private MilestoneDTO convertToDTO(ProjectMilestone milestone, Long projectId) {
+        MilestoneDTO dto = new MilestoneDTO();
+        dto.setId(milestone.getId());
+        dto.setProjectId(projectId);
+        dto.setTitle(milestone.getTitle());
+        dto.setDescription(milestone.getDescription());
+        dto.setAmount(milestone.getAmount());
+        dto.setDueDate(milestone.getDueDate());
+        dto.setStatus(milestone.getStatus());
+        dto.setCompletedAt(milestone.getCompletedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,98 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory, copy-on-write list of open projects, newest first. Readers get an immutable list
+ * without touching the database; each committed project change publishes a new list, and a
+ * periodic reload from the database corrects any drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenProjectsSnapshot {
+
+    private static final Comparator<Project> NEWEST_FIRST = Comparator
+            .comparing(Project::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Project::getId, Comparator.reverseOrder());
+
+    private final ProjectRepository projectRepository;
+
+    // Never mutated once published; writers replace it under the instance lock
+    private volatile List<Project> openProjects;
+
+    /**
+     * Current open projects, newest first. The same list instance is returned until something changes.
+     */
+    public List<Project> getOpenProjects() {
+        List<Project> current = openProjects;
+        if (current == null) {
+            synchronized (this) {
+                if (openProjects == null) {
+                    reload();
+                }
+                current = openProjects;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Re-read the changed project and apply it. The read and the apply happen under one lock, in
+     * a fresh transaction rather than the committed one's persistence context, so concurrent
+     * commits are applied in the order their state was read and an older state never wins.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        if (openProjects == null) {
+            return; // not built yet, the first read loads it
+        }
+        Project project = projectRepository.findById(event.getProjectId()).orElse(null);
+        apply(event.getProjectId(), project);
+    }
+
+    @Scheduled(fixedDelayString = "${projects.open-snapshot.reconcile-ms:300000}",
+               initialDelayString = "${projects.open-snapshot.reconcile-ms:300000}")
+    public synchronized void reconcile() {
+        int before = openProjects != null ? openProjects.size() : 0;
+        reload();
+        log.debug("Reconciled open projects snapshot: {} -> {} projects", before, openProjects.size());
+    }
+
+    /**
+     * Replace the entry for the project with its current state, dropping it when no longer open
+     */
+    synchronized void apply(Long projectId, Project project) {
+        List<Project> next = new ArrayList<>(openProjects.size() + 1);
+        for (Project existing : openProjects) {
+            if (!existing.getId().equals(projectId)) {
+                next.add(existing);
+            }
+        }
+        if (project != null && project.getStatus() == ProjectStatus.OPEN) {
+            int position = Collections.binarySearch(next, project, NEWEST_FIRST);
+            next.add(position < 0 ? -(position + 1) : position, project);
+        }
+        openProjects = Collections.unmodifiableList(next);
+    }
+
+    private void reload() {
+        openProjects = Collections.unmodifiableList(new ArrayList<>(projectRepository.findAllOpenProjects()));
+    }
+}
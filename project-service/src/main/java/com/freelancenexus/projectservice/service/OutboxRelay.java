@@ -0,0 +1,161 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.OutboxEvent;
+import com.freelancenexus.projectservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox in batches. A batch is claimed in a short transaction, sent on one channel
+ * with no database transaction open, and each event is deleted only after the broker confirms
+ * it, so events are delivered at least once. Events that fail are retried with backoff and
+ * dead-lettered after a fixed number of attempts, so one bad row cannot stall the outbox.
+ * Confirm outcomes and the time from enqueue to broker ack are recorded as metrics.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    // Claimed rows become due again after this long if the relay dies mid-batch
+    @Value("${outbox.relay.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${outbox.relay.max-retry-backoff-ms:600000}")
+    private long maxRetryBackoffMs;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        // Keep draining while full batches are coming back
+        int published;
+        do {
+            published = publishBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Publish one batch and return how many events were published
+     */
+    int publishBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status ->
+                outboxEventRepository.claimNextBatch(batchSize, leaseMs));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, CorrelationData> correlations = new LinkedHashMap<>();
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (OutboxEvent event : batch) {
+                    CorrelationData correlation = new CorrelationData("outbox-" + event.getId());
+                    operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+                    correlations.put(event.getId(), correlation);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Failed to relay {} outbox events, will retry: {}", batch.size(), e.getMessage());
+        }
+
+        List<Long> confirmed = new ArrayList<>();
+        Map<String, List<Long>> failed = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+        for (OutboxEvent event : batch) {
+            String error = awaitConfirm(correlations.get(event.getId()), deadline);
+            if (error == null) {
+                confirmed.add(event.getId());
+                if (event.getCreatedAt() != null) {
+                    meterRegistry.timer("project.events.publish.latency")
+                            .record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+                }
+            } else {
+                failed.computeIfAbsent(error, key -> new ArrayList<>()).add(event.getId());
+            }
+        }
+
+        meterRegistry.counter("project.events.confirms", "result", "ack").increment(confirmed.size());
+        meterRegistry.counter("project.events.confirms", "result", "nack").increment(batch.size() - confirmed.size());
+
+        transactionTemplate.execute(status -> {
+            if (!confirmed.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(confirmed);
+            }
+            failed.forEach((error, ids) -> outboxEventRepository.recordFailure(
+                    ids, error, maxAttempts, retryBackoffMs, maxRetryBackoffMs));
+            return null;
+        });
+        if (!failed.isEmpty()) {
+            log.warn("{} outbox events were not confirmed and will be retried or dead-lettered after {} attempts: {}",
+                    batch.size() - confirmed.size(), maxAttempts, failed.keySet());
+        }
+        log.debug("Relayed {} outbox events", confirmed.size());
+        return confirmed.size();
+    }
+
+    /**
+     * Wait for one broker confirm; null when acked, otherwise the reason it was not
+     */
+    private String awaitConfirm(CorrelationData correlation, long deadline) {
+        if (correlation == null) {
+            return "not sent";
+        }
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            CorrelationData.Confirm confirm = correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+            return confirm.isAck() ? null : "Broker nacked: " + confirm.getReason();
+        } catch (TimeoutException e) {
+            return "No broker confirm within " + confirmTimeoutMs + " ms";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted waiting for broker confirm";
+        } catch (ExecutionException e) {
+            return "Broker confirm failed: " + e.getCause();
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setMessageId("outbox-" + event.getId()); // lets consumers drop redeliveries
+        properties.setHeader("__TypeId__", event.getPayloadType());
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
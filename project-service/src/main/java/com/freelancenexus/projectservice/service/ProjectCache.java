@@ -0,0 +1,68 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.event.ProposalSubmittedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of project detail DTOs. Entries are evicted once a write to the project,
+ * or a new proposal on it, has committed; the TTL bounds staleness from any other path.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${project.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${project.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<Long, ProjectDTO> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "projects");
+    }
+
+    public ProjectDTO get(Long projectId, Function<Long, ProjectDTO> loader) {
+        return cache.get(projectId, loader);
+    }
+
+    public void evict(Long projectId) {
+        cache.invalidate(projectId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        log.debug("Evicting cached project {} after {}", event.getProjectId(), event.getChangeType());
+        evict(event.getProjectId());
+    }
+
+    // The detail view carries the proposal count
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProposalSubmitted(ProposalSubmittedEvent event) {
+        evict(event.getProjectId());
+    }
+}
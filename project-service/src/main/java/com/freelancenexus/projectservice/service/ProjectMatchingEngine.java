@@ -0,0 +1,194 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Deterministic, in-process ranking of open projects against a freelancer's skills.
+ * Scores combine IDF-weighted Jaccard skill overlap, recency and budget, using an
+ * inverted skill index that is rebuilt whenever the open projects snapshot changes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectMatchingEngine {
+
+    private static final double SKILL_WEIGHT = 0.7;
+    private static final double RECENCY_WEIGHT = 0.2;
+    private static final double BUDGET_WEIGHT = 0.1;
+    private static final double RECENCY_HALF_LIFE_DAYS = 14.0;
+
+    private final OpenProjectsSnapshot openProjectsSnapshot;
+
+    private volatile SkillIndex index;
+
+    /**
+     * Return up to {@code limit} open projects ordered by local match score, best first.
+     * Projects sharing at least one skill are ranked first; remaining slots are filled with
+     * the most recent open projects so downstream semantic ranking still sees near misses.
+     */
+    public List<ScoredProject> rankProjects(List<String> freelancerSkills, int limit) {
+        SkillIndex current = currentIndex();
+        if (current.projects.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Set<String> tags = freelancerSkills.stream()
+                .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // Keyed by id: Project equality would touch its lazy collections
+        Map<Long, Project> candidates = new LinkedHashMap<>();
+        for (String tag : tags) {
+            for (Project project : current.postings.getOrDefault(tag, Collections.emptyList())) {
+                candidates.putIfAbsent(project.getId(), project);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        PriorityQueue<ScoredProject> top = new PriorityQueue<>(Comparator.comparingDouble(ScoredProject::getScore));
+        for (Project project : candidates.values()) {
+            offer(top, score(current, project, tags, now), limit);
+        }
+
+        // Pad with recent projects that share no skill
+        for (Project project : current.projects) {
+            if (top.size() >= limit) {
+                break;
+            }
+            if (!candidates.containsKey(project.getId())) {
+                top.add(score(current, project, tags, now));
+            }
+        }
+
+        List<ScoredProject> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingDouble(ScoredProject::getScore).reversed());
+        return ranked;
+    }
+
+    /**
+     * Drop the current index so the next call rebuilds it from the open projects snapshot
+     */
+    public void invalidate() {
+        index = null;
+    }
+
+    private void offer(PriorityQueue<ScoredProject> top, ScoredProject scored, int limit) {
+        if (top.size() < limit) {
+            top.add(scored);
+        } else if (top.peek().getScore() < scored.getScore()) {
+            top.poll();
+            top.add(scored);
+        }
+    }
+
+    private ScoredProject score(SkillIndex current, Project project, Set<String> freelancerTags, LocalDateTime now) {
+        Set<String> projectTags = tagsOf(project);
+
+        List<String> matching = new ArrayList<>();
+        double intersection = 0.0;
+        double union = 0.0;
+        for (String tag : freelancerTags) {
+            double weight = current.idf(tag);
+            union += weight;
+            if (projectTags.contains(tag)) {
+                intersection += weight;
+                matching.add(tag);
+            }
+        }
+        for (String tag : projectTags) {
+            if (!freelancerTags.contains(tag)) {
+                union += current.idf(tag);
+            }
+        }
+        double skillScore = union > 0 ? intersection / union : 0.0;
+
+        double recencyScore = 0.0;
+        if (project.getCreatedAt() != null) {
+            double ageDays = Math.max(0, Duration.between(project.getCreatedAt(), now).toHours() / 24.0);
+            recencyScore = Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+        }
+
+        double budgetScore = 0.0;
+        if (project.getBudgetMax() != null && current.maxBudget.signum() > 0) {
+            budgetScore = project.getBudgetMax().doubleValue() / current.maxBudget.doubleValue();
+        }
+
+        double score = SKILL_WEIGHT * skillScore + RECENCY_WEIGHT * recencyScore + BUDGET_WEIGHT * budgetScore;
+        int skillMatchPercentage = projectTags.isEmpty() ? 0 : (int) Math.round(100.0 * matching.size() / projectTags.size());
+        return new ScoredProject(project, score, matching, skillMatchPercentage);
+    }
+
+    private SkillIndex currentIndex() {
+        List<Project> openProjects = openProjectsSnapshot.getOpenProjects();
+        SkillIndex current = index;
+        if (current != null && current.projects == openProjects) {
+            return current;
+        }
+        synchronized (this) {
+            current = index;
+            if (current == null || current.projects != openProjects) {
+                current = buildIndex(openProjects);
+                index = current;
+            }
+            return current;
+        }
+    }
+
+    private SkillIndex buildIndex(List<Project> openProjects) {
+        Map<String, List<Project>> postings = new HashMap<>();
+        BigDecimal maxBudget = BigDecimal.ZERO;
+        for (Project project : openProjects) {
+            for (String tag : tagsOf(project)) {
+                postings.computeIfAbsent(tag, key -> new ArrayList<>()).add(project);
+            }
+            if (project.getBudgetMax() != null && project.getBudgetMax().compareTo(maxBudget) > 0) {
+                maxBudget = project.getBudgetMax();
+            }
+        }
+        log.info("Built project skill index with {} projects and {} skills", openProjects.size(), postings.size());
+        return new SkillIndex(openProjects, postings, maxBudget);
+    }
+
+    private static Set<String> tagsOf(Project project) {
+        return project.getSkillTags() != null ? new HashSet<>(project.getSkillTags()) : Collections.emptySet();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ScoredProject {
+        private final Project project;
+        private final double score; // 0-1
+        private final List<String> matchingSkills;
+        private final int skillMatchPercentage;
+    }
+
+    private static final class SkillIndex {
+        private final List<Project> projects; // the snapshot this index was built from, newest first
+        private final Map<String, List<Project>> postings;
+        private final BigDecimal maxBudget;
+
+        private SkillIndex(List<Project> projects, Map<String, List<Project>> postings, BigDecimal maxBudget) {
+            this.projects = projects;
+            this.postings = postings;
+            this.maxBudget = maxBudget;
+        }
+
+        // Smoothed inverse document frequency; unseen skills get the rarest weight
+        private double idf(String tag) {
+            int documentFrequency = postings.getOrDefault(tag, Collections.emptyList()).size();
+            return Math.log(1.0 + (double) projects.size() / Math.max(1, documentFrequency));
+        }
+    }
+}
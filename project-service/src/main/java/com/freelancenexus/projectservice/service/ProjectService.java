@@ -3,30 +3,68 @@ package com.freelancenexus.projectservice.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
+import com.freelancenexus.projectservice.dto.ProjectSearchResultDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.ProjectStatus;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
+import com.freelancenexus.projectservice.repository.ProjectRepository.FacetCount;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
+import com.freelancenexus.projectservice.repository.ProposalRepository.ProposalCount;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProjectService {
 
+    // Upper bound on ids per grouped count query, keeps the IN list well under the driver's bind limit
+    private static final int COUNT_BATCH_SIZE = 1000;
+
+    private static final int DEFAULT_PAGE_LIMIT = 20;
+    private static final int MAX_PAGE_LIMIT = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int SKILL_FACET_LIMIT = 20;
+
+    // Keyset origin for the first page: sorts after every real (createdAt, id)
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final ProjectRepository projectRepository;
     private final ProposalRepository proposalRepository;
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
     private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final GeminiResponseCache geminiResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectCache projectCache;
+    private final OpenProjectsSnapshot openProjectsSnapshot;
 
     @Value("${rabbitmq.exchange.project}")
     private String projectExchange;
@@ -45,7 +83,7 @@ public class ProjectService {
         project.setBudgetMin(createDTO.getBudgetMin());
         project.setBudgetMax(createDTO.getBudgetMax());
         project.setDurationDays(createDTO.getDurationDays());
-        project.setRequiredSkills(convertSkillsToJson(createDTO.getRequiredSkills()));
+        project.setRequiredSkills(createDTO.getRequiredSkills());
         project.setCategory(createDTO.getCategory());
         project.setStatus(ProjectStatus.OPEN);
         project.setDeadline(createDTO.getDeadline());
@@ -53,17 +91,20 @@ public class ProjectService {
         Project savedProject = projectRepository.save(project);
         log.info("Project created with ID: {}", savedProject.getId());
 
-        // Publish event to RabbitMQ
+        // Queue event for RabbitMQ
         publishProjectCreatedEvent(savedProject);
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId(), ProjectChangedEvent.ChangeType.CREATED));
 
         return convertToDTO(savedProject);
     }
 
     public ProjectDTO getProjectById(Long id) {
         log.info("Fetching project by ID: {}", id);
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found with ID: " + id));
-        return convertToDTO(project);
+        return projectCache.get(id, projectId -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found with ID: " + projectId));
+            return convertToDTO(project);
+        });
     }
 
     @Transactional
@@ -78,11 +119,13 @@ public class ProjectService {
         project.setBudgetMin(updateDTO.getBudgetMin());
         project.setBudgetMax(updateDTO.getBudgetMax());
         project.setDurationDays(updateDTO.getDurationDays());
-        project.setRequiredSkills(convertSkillsToJson(updateDTO.getRequiredSkills()));
+        project.setRequiredSkills(updateDTO.getRequiredSkills());
         project.setCategory(updateDTO.getCategory());
         project.setDeadline(updateDTO.getDeadline());
 
         Project updatedProject = projectRepository.save(project);
+        geminiResponseCache.invalidateTag(GeminiResponseCache.projectTag(id));
+        eventPublisher.publishEvent(new ProjectChangedEvent(id, ProjectChangedEvent.ChangeType.UPDATED));
         return convertToDTO(updatedProject);
     }
 
@@ -95,27 +138,22 @@ public class ProjectService {
         
         project.setStatus(ProjectStatus.CANCELLED);
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id, ProjectChangedEvent.ChangeType.CANCELLED));
     }
 
     public List<ProjectDTO> getAllProjects() {
         log.info("Fetching all projects");
-        return projectRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(projectRepository.findAll());
     }
 
     public List<ProjectDTO> getProjectsByClientId(Long clientId) {
         log.info("Fetching projects for client ID: {}", clientId);
-        return projectRepository.findByClientId(clientId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(projectRepository.findByClientId(clientId));
     }
 
     public List<ProjectDTO> getOpenProjects() {
         log.info("Fetching all open projects");
-        return projectRepository.findAllOpenProjects().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(openProjectsSnapshot.getOpenProjects());
     }
 
     public List<ProjectDTO> searchProjects(String keyword, String status) {
@@ -123,16 +161,112 @@ public class ProjectService {
         
         ProjectStatus projectStatus = status != null ? ProjectStatus.valueOf(status.toUpperCase()) : ProjectStatus.OPEN;
         
-        return projectRepository.searchByKeywordAndStatus(keyword, projectStatus).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(projectRepository.searchByKeywordAndStatus(keyword, projectStatus.name()));
+    }
+
+    /**
+     * Relevance-ranked full-text search with category and skill facets over the full match set
+     */
+    public ProjectSearchResultDTO searchProjectsWithFacets(String keyword, String status, Integer limit) {
+        int searchLimit = limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        String projectStatus = status != null ? ProjectStatus.valueOf(status.toUpperCase()).name() : ProjectStatus.OPEN.name();
+        log.info("Full-text searching projects with keyword: {} and status: {}", keyword, projectStatus);
+
+        List<ProjectDTO> items = convertToDTOs(
+                projectRepository.searchRankedByKeywordAndStatus(keyword, projectStatus, searchLimit));
+
+        return new ProjectSearchResultDTO(
+                items,
+                toFacetMap(projectRepository.countCategoryFacets(keyword, projectStatus)),
+                toFacetMap(projectRepository.countSkillFacets(keyword, projectStatus, SKILL_FACET_LIMIT)));
+    }
+
+    /**
+     * Open projects requiring at least one of the given skills (case-insensitive), newest first
+     */
+    public List<ProjectDTO> getOpenProjectsRequiringAnySkill(List<String> skills) {
+        log.info("Fetching open projects requiring any of: {}", skills);
+        return convertToDTOs(projectRepository.findOpenProjectsWithAnySkill(toSkillTags(skills)));
+    }
+
+    /**
+     * Open projects requiring every one of the given skills (case-insensitive), newest first
+     */
+    public List<ProjectDTO> getOpenProjectsRequiringAllSkills(List<String> skills) {
+        log.info("Fetching open projects requiring all of: {}", skills);
+        return convertToDTOs(projectRepository.findOpenProjectsWithAllSkills(toSkillTags(skills)));
     }
 
     public List<ProjectDTO> getProjectsByCategory(String category) {
         log.info("Fetching projects by category: {}", category);
-        return projectRepository.findByCategory(category).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(projectRepository.findByCategory(category));
+    }
+
+    /**
+     * Keyset-paginated listing ordered by createdAt DESC, id DESC.
+     * Filters follow the same precedence as the unpaginated listing: keyword, then category, then status.
+     */
+    public ProjectPageDTO getProjectsPage(String keyword, String status, String category, Integer limit, String cursor) {
+        int pageLimit = limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        log.info("Fetching project page with limit: {} and cursor: {}", pageLimit, cursor);
+
+        LocalDateTime afterCreatedAt = FIRST_PAGE_CREATED_AT;
+        Long afterId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            CursorPosition position = decodeCursor(cursor);
+            afterCreatedAt = position.createdAt();
+            afterId = position.id();
+        }
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        List<Project> projects;
+        if (keyword != null && !keyword.isEmpty()) {
+            ProjectStatus projectStatus = status != null ? ProjectStatus.valueOf(status.toUpperCase()) : ProjectStatus.OPEN;
+            projects = projectRepository.searchPageByKeywordAndStatusAfter(keyword, projectStatus.name(), afterCreatedAt, afterId, pageLimit + 1);
+        } else if (category != null && !category.isEmpty()) {
+            projects = projectRepository.findPageByCategoryAfter(category, afterCreatedAt, afterId, pageable);
+        } else if (status != null && !status.isEmpty()) {
+            projects = projectRepository.findPageByStatusAfter(ProjectStatus.valueOf(status.toUpperCase()), afterCreatedAt, afterId, pageable);
+        } else {
+            projects = projectRepository.findPageAfter(afterCreatedAt, afterId, pageable);
+        }
+
+        boolean hasMore = projects.size() > pageLimit;
+        if (hasMore) {
+            projects = projects.subList(0, pageLimit);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Project last = projects.get(projects.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return new ProjectPageDTO(convertToDTOs(projects), nextCursor, hasMore);
+    }
+
+    /**
+     * Stream projects as newline-delimited JSON. Rows are pulled through a JDBC cursor and the
+     * persistence context is cleared after every chunk so memory stays flat regardless of table size.
+     */
+    @Transactional(readOnly = true)
+    public void exportProjects(String status, OutputStream outputStream) {
+        log.info("Exporting projects with status: {}", status);
+
+        try (Stream<Project> projects = status != null && !status.isEmpty()
+                ? projectRepository.streamByStatus(ProjectStatus.valueOf(status.toUpperCase()))
+                : projectRepository.streamAll()) {
+
+            List<Project> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            projects.forEach(project -> {
+                chunk.add(project);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    writeChunk(chunk, outputStream);
+                }
+            });
+            writeChunk(chunk, outputStream);
+        }
     }
 
     @Transactional
@@ -146,10 +280,42 @@ public class ProjectService {
         project.setStatus(ProjectStatus.IN_PROGRESS);
         
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, ProjectChangedEvent.ChangeType.ASSIGNED));
         return convertToDTO(updatedProject);
     }
 
     private ProjectDTO convertToDTO(Project project) {
+        return convertToDTO(project, proposalRepository.countByProjectId(project.getId()));
+    }
+
+    /**
+     * Convert a listing to DTOs, resolving proposal counts with one grouped query per batch
+     * instead of one count query per project
+     */
+    private List<ProjectDTO> convertToDTOs(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Long> proposalCounts = new HashMap<>();
+        for (int from = 0; from < projects.size(); from += COUNT_BATCH_SIZE) {
+            List<Long> projectIds = projects.subList(from, Math.min(from + COUNT_BATCH_SIZE, projects.size()))
+                    .stream()
+                    .map(Project::getId)
+                    .collect(Collectors.toList());
+            for (ProposalCount count : proposalRepository.countByProjectIds(projectIds)) {
+                proposalCounts.put(count.getProjectId(), count.getProposalCount());
+            }
+        }
+
+        List<ProjectDTO> dtos = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            dtos.add(convertToDTO(project, proposalCounts.getOrDefault(project.getId(), 0L)));
+        }
+        return dtos;
+    }
+
+    static ProjectDTO convertToDTO(Project project, long proposalCount) {
         ProjectDTO dto = new ProjectDTO();
         dto.setId(project.getId());
         dto.setClientId(project.getClientId());
@@ -158,42 +324,74 @@ public class ProjectService {
         dto.setBudgetMin(project.getBudgetMin());
         dto.setBudgetMax(project.getBudgetMax());
         dto.setDurationDays(project.getDurationDays());
-        dto.setRequiredSkills(parseSkillsFromJson(project.getRequiredSkills()));
+        dto.setRequiredSkills(new ArrayList<>(project.getRequiredSkills()));
         dto.setCategory(project.getCategory());
         dto.setStatus(project.getStatus());
         dto.setDeadline(project.getDeadline());
         dto.setAssignedFreelancer(project.getAssignedFreelancer());
         dto.setCreatedAt(project.getCreatedAt());
         dto.setUpdatedAt(project.getUpdatedAt());
-        dto.setProposalCount((int) proposalRepository.countByProjectId(project.getId()));
+        dto.setProposalCount((int) proposalCount);
         return dto;
     }
 
-    private String convertSkillsToJson(List<String> skills) {
+    private void writeChunk(List<Project> chunk, OutputStream outputStream) {
+        if (chunk.isEmpty()) {
+            return;
+        }
         try {
-            return objectMapper.writeValueAsString(skills);
-        } catch (Exception e) {
-            log.error("Error converting skills to JSON", e);
-            return "[]";
+            for (ProjectDTO dto : convertToDTOs(chunk)) {
+                outputStream.write(objectMapper.writeValueAsBytes(dto));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing project export", e);
         }
+        chunk.clear();
+        entityManager.clear();
     }
 
-    private List<String> parseSkillsFromJson(String skillsJson) {
-        try {
-            return objectMapper.readValue(skillsJson, List.class);
-        } catch (Exception e) {
-            log.error("Error parsing skills from JSON", e);
-            return Arrays.asList(skillsJson.split(","));
+    private String[] toSkillTags(List<String> skills) {
+        return skills.stream()
+                .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private Map<String, Long> toFacetMap(List<FacetCount> facets) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (FacetCount facet : facets) {
+            result.put(facet.getValue(), facet.getCount());
         }
+        return result;
     }
 
-    private void publishProjectCreatedEvent(Project project) {
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CursorPosition decodeCursor(String cursor) {
         try {
-            ProjectDTO dto = convertToDTO(project);
-            rabbitTemplate.convertAndSend(projectExchange, projectCreatedRoutingKey, dto);
-            log.info("Published project.created event for project ID: {}", project.getId());
-        } catch (Exception e) {
-            log.error("Error publishing project.created event", e);
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new CursorPosition(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
         }
     }
+
+    private record CursorPosition(LocalDateTime createdAt, Long id) {
+    }
+
+    // Written to the outbox in the same transaction; OutboxRelay publishes it after commit
+    private void publishProjectCreatedEvent(Project project) {
+        ProjectDTO dto = convertToDTO(project);
+        outboxService.enqueue(projectExchange, projectCreatedRoutingKey, dto);
+        log.info("Queued project.created event for project ID: {}", project.getId());
+    }
 }
\ No newline at end of file
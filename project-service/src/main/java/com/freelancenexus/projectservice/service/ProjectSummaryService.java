@@ -0,0 +1,208 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectSummary;
+import com.freelancenexus.projectservice.model.SummaryStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import com.freelancenexus.projectservice.repository.ProjectSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores one AI summary per project revision. Summaries are generated in the background
+ * when a project is created or updated, and reads are a single indexed lookup that
+ * reports PENDING while a fresh summary is being generated.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectSummaryService {
+
+    private final ProjectSummaryRepository summaryRepository;
+    private final ProjectRepository projectRepository;
+    private final AIService aiService;
+    private final TaskExecutor aiTaskExecutor; // resolved by name to the bean in AsyncConfig
+
+    @Value("${ai.summary.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds;
+
+    @Value("${ai.summary.max-retry-backoff-seconds:3600}")
+    private long maxRetryBackoffSeconds;
+
+    // Projects with a generation currently running, so repeated reads don't stack Gemini calls
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Return the stored summary for the project's current content, scheduling generation
+     * when it is missing, stale, or failed and its retry backoff has elapsed
+     */
+    public ProjectSummaryDTO getSummary(Long projectId) {
+        log.info("Fetching stored summary for project: {}", projectId);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+        String contentHash = contentHash(project);
+
+        ProjectSummary stored = summaryRepository.findByProjectId(projectId).orElse(null);
+        if (stored != null && stored.getStatus() == SummaryStatus.READY && contentHash.equals(stored.getContentHash())) {
+            return toDTO(stored);
+        }
+        if (stored != null && isBackingOff(stored, contentHash)) {
+            return toDTO(stored);
+        }
+
+        if (inFlight.add(projectId)) {
+            try {
+                aiTaskExecutor.execute(() -> generate(projectId));
+            } catch (TaskRejectedException e) {
+                inFlight.remove(projectId);
+                log.warn("AI executor saturated; deferring summary generation for project: {}", projectId);
+            }
+        }
+
+        ProjectSummaryDTO pending = new ProjectSummaryDTO();
+        pending.setProjectId(projectId);
+        pending.setStatus(SummaryStatus.PENDING);
+        return pending;
+    }
+
+    @Async("aiTaskExecutor")
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getChangeType() != ProjectChangedEvent.ChangeType.CREATED
+                && event.getChangeType() != ProjectChangedEvent.ChangeType.UPDATED) {
+            return;
+        }
+        if (inFlight.add(event.getProjectId())) {
+            generate(event.getProjectId());
+        }
+    }
+
+    /**
+     * Generate and persist a summary unless one already exists for the current content.
+     * The Gemini call runs outside any database transaction.
+     */
+    void generate(Long projectId) {
+        try {
+            Project project = projectRepository.findById(projectId).orElse(null);
+            if (project == null) {
+                return;
+            }
+            String contentHash = contentHash(project);
+
+            ProjectSummary summary = summaryRepository.findByProjectId(projectId).orElseGet(ProjectSummary::new);
+            if (summary.getStatus() == SummaryStatus.READY && contentHash.equals(summary.getContentHash())) {
+                return;
+            }
+            if (isBackingOff(summary, contentHash)) {
+                return;
+            }
+            if (!contentHash.equals(summary.getContentHash())) {
+                summary.setFailureCount(0); // failures of an older revision don't delay this one
+            }
+            summary.setProjectId(projectId);
+            summary.setContentHash(contentHash);
+            summary.setStatus(SummaryStatus.PENDING);
+            summary = summaryRepository.save(summary);
+
+            log.info("Generating summary for project: {} revision: {}", projectId, contentHash);
+            ProjectSummaryDTO generated = aiService.summarizeProject(project);
+
+            if (generated.getSummary() == null) {
+                markFailed(summary);
+            } else {
+                summary.setStatus(SummaryStatus.READY);
+                summary.setFailureCount(0);
+                summary.setFailedAt(null);
+                summary.setSummary(generated.getSummary());
+                summary.setKeyRequirements(generated.getKeyRequirements());
+                summary.setIdealCandidate(generated.getIdealCandidate());
+                summary.setEstimatedComplexity(generated.getEstimatedComplexity());
+                summary.setSuggestedSkills(generated.getSuggestedSkills() != null
+                        ? new ArrayList<>(generated.getSuggestedSkills()) : new ArrayList<>());
+                summary.setGeneratedAt(LocalDateTime.now());
+            }
+            summaryRepository.save(summary);
+
+        } catch (Exception e) {
+            log.error("Error generating summary for project: {}", projectId, e);
+            summaryRepository.findByProjectId(projectId).ifPresent(summary -> {
+                markFailed(summary);
+                summaryRepository.save(summary);
+            });
+        } finally {
+            inFlight.remove(projectId);
+        }
+    }
+
+    /**
+     * True while a failed summary of this revision is inside its retry window, which doubles
+     * with each consecutive failure up to the configured maximum
+     */
+    boolean isBackingOff(ProjectSummary summary, String contentHash) {
+        if (summary.getStatus() != SummaryStatus.FAILED || summary.getFailedAt() == null
+                || !contentHash.equals(summary.getContentHash())) {
+            return false;
+        }
+        int doublings = Math.min(Math.max(summary.getFailureCount() - 1, 0), 20);
+        long backoffSeconds = Math.min(retryBackoffSeconds << doublings, maxRetryBackoffSeconds);
+        return LocalDateTime.now().isBefore(summary.getFailedAt().plusSeconds(backoffSeconds));
+    }
+
+    private void markFailed(ProjectSummary summary) {
+        summary.setStatus(SummaryStatus.FAILED);
+        summary.setFailureCount(summary.getFailureCount() + 1);
+        summary.setFailedAt(LocalDateTime.now());
+    }
+
+    /**
+     * Fingerprint of the fields the summary prompt is built from
+     */
+    String contentHash(Project project) {
+        String content = String.join("\u0000",
+                Objects.toString(project.getTitle(), ""),
+                Objects.toString(project.getDescription(), ""),
+                Objects.toString(project.getCategory(), ""),
+                Objects.toString(project.getBudgetMin(), ""),
+                Objects.toString(project.getBudgetMax(), ""),
+                Objects.toString(project.getDurationDays(), ""),
+                String.join(",", project.getRequiredSkills()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private ProjectSummaryDTO toDTO(ProjectSummary summary) {
+        ProjectSummaryDTO dto = new ProjectSummaryDTO();
+        dto.setProjectId(summary.getProjectId());
+        dto.setSummary(summary.getSummary());
+        dto.setKeyRequirements(summary.getKeyRequirements());
+        dto.setIdealCandidate(summary.getIdealCandidate());
+        dto.setEstimatedComplexity(summary.getEstimatedComplexity());
+        dto.setSuggestedSkills(summary.getSuggestedSkills() != null
+                ? new ArrayList<>(summary.getSuggestedSkills()) : new ArrayList<>());
+        dto.setStatus(summary.getStatus());
+        return dto;
+    }
+}
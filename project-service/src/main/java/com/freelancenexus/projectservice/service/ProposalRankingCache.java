@@ -0,0 +1,52 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Size- and TTL-bounded cache of complete proposal rankings, keyed by the project's revision and
+ * the ids of the proposals ranked. Proposals are not edited after submission, so a ranking stays
+ * valid until a proposal is added or removed or the project itself changes.
+ */
+@Component
+public class ProposalRankingCache {
+
+    private final Cache<RankingKey, List<RankedProposalDTO>> cache;
+
+    public ProposalRankingCache(@Value("${ai.ranking.cache.max-size:500}") long maxSize,
+                                @Value("${ai.ranking.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public List<RankedProposalDTO> get(Project project, List<Proposal> proposals) {
+        return cache.getIfPresent(key(project, proposals));
+    }
+
+    /**
+     * Store the ranking unless some proposal was left unscored, so the next request retries those
+     */
+    public void put(Project project, List<Proposal> proposals, List<RankedProposalDTO> ranking) {
+        if (ranking.stream().allMatch(dto -> dto.getAiScore() != null)) {
+            cache.put(key(project, proposals), List.copyOf(ranking));
+        }
+    }
+
+    private static RankingKey key(Project project, List<Proposal> proposals) {
+        List<Long> proposalIds = proposals.stream().map(Proposal::getId).sorted().toList();
+        return new RankingKey(project.getId(), project.getVersion(), proposalIds);
+    }
+
+    private record RankingKey(Long projectId, Long projectVersion, List<Long> proposalIds) {
+    }
+}
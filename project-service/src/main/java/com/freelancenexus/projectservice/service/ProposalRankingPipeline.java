@@ -0,0 +1,248 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks any number of proposals with Gemini by splitting them into token-budgeted batches,
+ * ranking the batches in parallel and running the best of each batch through further
+ * rounds until a single batch decides the top of the global order.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProposalRankingPipeline {
+
+    // Rough estimate for English prose; keeps batches well inside the context window
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final GeminiIntegrationService geminiService;
+    private final TaskExecutor geminiBatchExecutor; // resolved by name to the bean in AsyncConfig
+
+    @Value("${ai.ranking.batch-token-budget:6000}")
+    private int batchTokenBudget;
+
+    @Value("${ai.ranking.max-batch-size:15}")
+    private int maxBatchSize;
+
+    @Value("${ai.ranking.max-cover-letter-chars:2000}")
+    private int maxCoverLetterChars;
+
+    @Value("${ai.ranking.finalists-per-batch:3}")
+    private int finalistsPerBatch;
+
+    /**
+     * Return every proposal in global rank order, ranks numbered from 1.
+     * Proposals Gemini could not score are kept at the end with a null aiScore.
+     */
+    public List<RankedProposalDTO> rank(Project project, List<Proposal> proposals) {
+        List<RankedProposalDTO> ranked = tournament(project, proposals, 1);
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).setRank(i + 1);
+        }
+        return ranked;
+    }
+
+    private List<RankedProposalDTO> tournament(Project project, List<Proposal> proposals, int round) {
+        List<List<Proposal>> batches = partition(project, proposals);
+        log.info("Ranking round {} for project {}: {} proposals in {} batches",
+                round, project.getId(), proposals.size(), batches.size());
+
+        List<List<RankedProposalDTO>> batchRankings = rankBatches(project, batches);
+        if (batchRankings.size() == 1) {
+            return batchRankings.get(0);
+        }
+
+        // The best of each batch go through to the next round; the rest keep their batch order
+        Map<Long, Proposal> proposalMap = proposals.stream()
+                .collect(Collectors.toMap(Proposal::getId, Function.identity()));
+        List<Proposal> finalists = new ArrayList<>();
+        List<RankedProposalDTO> eliminated = new ArrayList<>();
+        for (List<RankedProposalDTO> ranking : batchRankings) {
+            int cut = Math.min(finalistsPerBatch, ranking.size());
+            ranking.subList(0, cut).forEach(dto -> finalists.add(proposalMap.get(dto.getId())));
+            eliminated.addAll(ranking.subList(cut, ranking.size()));
+        }
+
+        if (finalists.isEmpty() || finalists.size() >= proposals.size()) {
+            // Batches too small to make progress; fall back to merging on batch scores
+            return mergeByScore(batchRankings.stream().flatMap(List::stream).collect(Collectors.toList()));
+        }
+
+        List<RankedProposalDTO> result = new ArrayList<>(tournament(project, finalists, round + 1));
+        result.addAll(mergeByScore(eliminated));
+        return result;
+    }
+
+    /**
+     * Split proposals into batches whose prompts fit the token budget and the per-call output limit
+     */
+    List<List<Proposal>> partition(Project project, List<Proposal> proposals) {
+        int available = batchTokenBudget - estimateTokens(buildRankingPrompt(project, Collections.emptyList()));
+
+        List<List<Proposal>> batches = new ArrayList<>();
+        List<Proposal> current = new ArrayList<>();
+        int used = 0;
+        for (Proposal proposal : proposals) {
+            int cost = estimateTokens(appendProposal(new StringBuilder(), 0, proposal).toString());
+            if (!current.isEmpty() && (used + cost > available || current.size() >= maxBatchSize)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                used = 0;
+            }
+            current.add(proposal);
+            used += cost;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private List<List<RankedProposalDTO>> rankBatches(Project project, List<List<Proposal>> batches) {
+        if (batches.size() == 1) {
+            return List.of(rankBatch(project, batches.get(0)));
+        }
+        List<CompletableFuture<List<RankedProposalDTO>>> futures = batches.stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> rankBatch(project, batch), geminiBatchExecutor))
+                .collect(Collectors.toList());
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Rank one batch; proposals missing from Gemini's answer follow the ranked ones unscored
+     */
+    private List<RankedProposalDTO> rankBatch(Project project, List<Proposal> batch) {
+        List<RankedProposalDTO> rankings = new ArrayList<>();
+        try {
+            JsonNode aiResponse = geminiService.callGeminiForJson(buildRankingPrompt(project, batch),
+                    GeminiResponseCache.projectTag(project.getId()));
+            rankings.addAll(parseRankings(aiResponse, batch));
+        } catch (Exception e) {
+            log.error("Error ranking proposal batch for project: {}", project.getId(), e);
+        }
+
+        Set<Long> ranked = rankings.stream().map(RankedProposalDTO::getId).collect(Collectors.toSet());
+        for (Proposal proposal : batch) {
+            if (!ranked.contains(proposal.getId())) {
+                rankings.add(toDTO(proposal));
+            }
+        }
+        return rankings;
+    }
+
+    private List<RankedProposalDTO> mergeByScore(List<RankedProposalDTO> rankings) {
+        List<RankedProposalDTO> merged = new ArrayList<>(rankings);
+        merged.sort(Comparator.comparing(RankedProposalDTO::getAiScore,
+                Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder())));
+        return merged;
+    }
+
+    int estimateTokens(String text) {
+        return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    String buildRankingPrompt(Project project, List<Proposal> proposals) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("You are an AI assistant helping rank freelancer proposals for a project.\n\n");
+        prompt.append("Project Details:\n");
+        prompt.append("Title: ").append(project.getTitle()).append("\n");
+        prompt.append("Description: ").append(project.getDescription()).append("\n");
+        prompt.append("Budget Range: $").append(project.getBudgetMin()).append(" - $").append(project.getBudgetMax()).append("\n");
+        prompt.append("Duration: ").append(project.getDurationDays()).append(" days\n");
+        prompt.append("Required Skills: ").append(String.join(", ", project.getRequiredSkills())).append("\n\n");
+
+        prompt.append("Proposals:\n");
+        for (int i = 0; i < proposals.size(); i++) {
+            appendProposal(prompt, i + 1, proposals.get(i));
+        }
+
+        prompt.append("\nRank these proposals from best to worst. For each proposal, provide:\n");
+        prompt.append("1. proposalId\n");
+        prompt.append("2. aiScore (0-100, higher is better)\n");
+        prompt.append("3. rank (1 being best)\n");
+        prompt.append("4. aiAnalysis (brief analysis)\n");
+        prompt.append("5. strengths (array of positive points)\n");
+        prompt.append("6. concerns (array of potential issues)\n\n");
+        prompt.append("Consider: budget alignment, delivery time, cover letter quality, professionalism.\n\n");
+        prompt.append("Return your response as a JSON array:\n");
+        prompt.append("```json\n");
+        prompt.append("[{\"proposalId\": 1, \"aiScore\": 95, \"rank\": 1, \"aiAnalysis\": \"...\", \"strengths\": [...], \"concerns\": [...]}]\n");
+        prompt.append("```");
+
+        return prompt.toString();
+    }
+
+    private StringBuilder appendProposal(StringBuilder prompt, int position, Proposal proposal) {
+        String coverLetter = proposal.getCoverLetter() != null ? proposal.getCoverLetter() : "";
+        if (coverLetter.length() > maxCoverLetterChars) {
+            coverLetter = coverLetter.substring(0, maxCoverLetterChars) + "...";
+        }
+        prompt.append(String.format("%d. Proposal ID: %d\n", position, proposal.getId()));
+        prompt.append("   Freelancer ID: ").append(proposal.getFreelancerId()).append("\n");
+        prompt.append("   Proposed Budget: $").append(proposal.getProposedBudget()).append("\n");
+        prompt.append("   Delivery Days: ").append(proposal.getDeliveryDays()).append("\n");
+        prompt.append("   Cover Letter: ").append(coverLetter).append("\n\n");
+        return prompt;
+    }
+
+    private List<RankedProposalDTO> parseRankings(JsonNode response, List<Proposal> proposals) {
+        List<RankedProposalDTO> rankings = new ArrayList<>();
+        
+        try {
+            if (response.isArray()) {
+                Map<Long, Proposal> proposalMap = proposals.stream()
+                        .collect(Collectors.toMap(Proposal::getId, p -> p));
+
+                for (JsonNode node : response) {
+                    Long proposalId = node.get("proposalId").asLong();
+                    Proposal proposal = proposalMap.remove(proposalId);
+                    
+                    if (proposal != null) {
+                        RankedProposalDTO dto = toDTO(proposal);
+                        dto.setAiScore(BigDecimal.valueOf(node.get("aiScore").asDouble()));
+                        dto.setRank(node.get("rank").asInt());
+                        dto.setAiAnalysis(node.get("aiAnalysis").asText());
+                        dto.setStrengths(GeminiIntegrationService.parseJsonArray(node.get("strengths")));
+                        dto.setConcerns(GeminiIntegrationService.parseJsonArray(node.get("concerns")));
+                        
+                        rankings.add(dto);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error parsing rankings", e);
+        }
+        
+        rankings.sort(Comparator.comparing(RankedProposalDTO::getRank));
+        return rankings;
+    }
+
+    private RankedProposalDTO toDTO(Proposal proposal) {
+        RankedProposalDTO dto = new RankedProposalDTO();
+        dto.setId(proposal.getId());
+        dto.setFreelancerId(proposal.getFreelancerId());
+        dto.setCoverLetter(proposal.getCoverLetter());
+        dto.setProposedBudget(proposal.getProposedBudget());
+        dto.setDeliveryDays(proposal.getDeliveryDays());
+        dto.setStrengths(new ArrayList<>());
+        dto.setConcerns(new ArrayList<>());
+        dto.setSubmittedAt(proposal.getSubmittedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,186 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.freelancenexus.projectservice.dto.ProposalDTO;
+import com.freelancenexus.projectservice.event.ProposalSubmittedEvent;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.repository.ProposalRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scores each proposal once, in the background, as soon as it is submitted. Scores are on
+ * an absolute rubric so proposals scored at different times can be ordered against each other.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProposalScoringService {
+
+    private final ProposalRepository proposalRepository;
+    private final GeminiIntegrationService geminiService;
+    private final TaskExecutor aiTaskExecutor; // resolved by name to the bean in AsyncConfig
+
+    @Value("${ai.scoring.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds;
+
+    @Value("${ai.scoring.max-retry-backoff-seconds:3600}")
+    private long maxRetryBackoffSeconds;
+
+    // Proposals with a scoring call queued or running
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    // Consecutive failed scoring attempts per proposal, cleared once a score is stored. Entries expire
+    // once the longest backoff has passed, so proposals that are deleted or never scored don't pile up
+    private final Cache<Long, FailedAttempts> failures = Caffeine.newBuilder()
+            .expireAfter(Expiry.writing((Long proposalId, FailedAttempts failed) ->
+                    Duration.ofSeconds(maxRetryBackoffSeconds)))
+            .build();
+
+    @Async("aiTaskExecutor")
+    @TransactionalEventListener
+    public void onProposalSubmitted(ProposalSubmittedEvent event) {
+        scoreProposal(event.getProposalId());
+    }
+
+    /**
+     * Schedule scoring for proposals that have no score yet, e.g. ones submitted before scoring existed
+     * or whose earlier attempts failed and are past their retry backoff. Never fails the caller:
+     * when the executor is saturated the remaining proposals are left for a later read.
+     */
+    public void scheduleUnscored(Collection<ProposalDTO> proposals) {
+        for (ProposalDTO proposal : proposals) {
+            Long proposalId = proposal.getId();
+            if (proposal.getAiScore() != null || isBackingOff(proposalId) || !inFlight.add(proposalId)) {
+                continue;
+            }
+            try {
+                aiTaskExecutor.execute(() -> score(proposalId));
+            } catch (TaskRejectedException e) {
+                inFlight.remove(proposalId);
+                log.warn("AI executor saturated; deferring scoring of unscored proposals");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Score one proposal with Gemini and persist the result. Failures leave the score empty.
+     */
+    void scoreProposal(Long proposalId) {
+        if (inFlight.add(proposalId)) {
+            score(proposalId);
+        }
+    }
+
+    /**
+     * True while a proposal's last failed attempt is inside its retry window, which doubles with
+     * each consecutive failure up to the configured maximum
+     */
+    boolean isBackingOff(Long proposalId) {
+        FailedAttempts failed = failures.getIfPresent(proposalId);
+        if (failed == null) {
+            return false;
+        }
+        int doublings = Math.min(failed.count() - 1, 20);
+        long backoffSeconds = Math.min(retryBackoffSeconds << doublings, maxRetryBackoffSeconds);
+        return Instant.now().isBefore(failed.lastAttempt().plusSeconds(backoffSeconds));
+    }
+
+    // Caller must have added the proposal to inFlight
+    private void score(Long proposalId) {
+        boolean scored = false;
+        try {
+            Proposal proposal = proposalRepository.findByIdWithProject(proposalId).orElse(null);
+            if (proposal == null) {
+                scored = true; // deleted, nothing left to retry
+                return;
+            }
+
+            JsonNode aiResponse = geminiService.callGeminiForJson(buildScoringPrompt(proposal.getProject(), proposal),
+                    GeminiResponseCache.projectTag(proposal.getProject().getId()));
+            JsonNode score = aiResponse.get("aiScore");
+            if (score == null || !score.isNumber()) {
+                log.warn("Gemini returned no score for proposal: {}", proposalId);
+                return;
+            }
+
+            BigDecimal aiScore = BigDecimal.valueOf(Math.max(0.0, Math.min(100.0, score.asDouble())))
+                    .setScale(2, RoundingMode.HALF_UP);
+            proposalRepository.updateAiScore(proposalId, aiScore);
+            scored = true;
+            log.info("Scored proposal {} with {}", proposalId, aiScore);
+
+        } catch (Exception e) {
+            log.error("Error scoring proposal: {}", proposalId, e);
+        } finally {
+            if (scored) {
+                failures.invalidate(proposalId);
+            } else {
+                failures.asMap().merge(proposalId, new FailedAttempts(1, Instant.now()),
+                        (previous, latest) -> new FailedAttempts(previous.count() + 1, latest.lastAttempt()));
+            }
+            inFlight.remove(proposalId);
+        }
+    }
+
+    private String buildScoringPrompt(Project project, Proposal proposal) {
+        return String.format("""
+            You are an AI assistant scoring a freelancer proposal for a project.
+            
+            Project Details:
+            Title: %s
+            Description: %s
+            Budget Range: $%s - $%s
+            Duration: %d days
+            Required Skills: %s
+            
+            Proposal:
+            Proposed Budget: $%s
+            Delivery Days: %d
+            Cover Letter: %s
+            
+            Score the proposal from 0 to 100 on this fixed rubric, independent of any other proposal:
+            - 40 points: relevance of the cover letter to the project requirements and skills
+            - 20 points: budget alignment with the project range
+            - 20 points: delivery time compared to the project duration
+            - 20 points: clarity and professionalism
+            
+            Return as JSON:
+            ```json
+            {"aiScore": 85}
+            ```
+            """,
+            project.getTitle(),
+            project.getDescription(),
+            project.getBudgetMin(),
+            project.getBudgetMax(),
+            project.getDurationDays(),
+            String.join(", ", project.getRequiredSkills()),
+            proposal.getProposedBudget(),
+            proposal.getDeliveryDays(),
+            proposal.getCoverLetter()
+        );
+    }
+
+    private record FailedAttempts(int count, Instant lastAttempt) {
+    }
+}
@@ -2,20 +2,23 @@ package com.freelancenexus.projectservice.service;
 
 import com.freelancenexus.projectservice.dto.ProposalDTO;
 import com.freelancenexus.projectservice.dto.ProposalSubmitDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.event.ProjectEventMessage;
+import com.freelancenexus.projectservice.event.ProposalSubmittedEvent;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.Proposal;
 import com.freelancenexus.projectservice.model.ProposalStatus;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +27,10 @@ public class ProposalService {
 
     private final ProposalRepository proposalRepository;
     private final ProjectRepository projectRepository;
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProposalScoringService proposalScoringService;
+    private final EntityManager entityManager;
 
     @Value("${rabbitmq.exchange.project}")
     private String projectExchange;
@@ -60,38 +66,35 @@ public class ProposalService {
         Proposal savedProposal = proposalRepository.save(proposal);
         log.info("Proposal created with ID: {}", savedProposal.getId());
 
-        // Publish event to RabbitMQ
+        // Queue event for RabbitMQ
         publishProposalSubmittedEvent(savedProposal);
+        // Scored in the background once the transaction commits
+        eventPublisher.publishEvent(new ProposalSubmittedEvent(savedProposal.getId(), projectId));
 
         return convertToDTO(savedProposal);
     }
 
     public List<ProposalDTO> getProposalsByProjectId(Long projectId) {
         log.info("Fetching proposals for project ID: {}", projectId);
-        return proposalRepository.findByProjectId(projectId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return proposalRepository.findDTOsByProjectId(projectId);
     }
 
     public List<ProposalDTO> getProposalsByFreelancerId(Long freelancerId) {
         log.info("Fetching proposals for freelancer ID: {}", freelancerId);
-        return proposalRepository.findByFreelancerId(freelancerId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return proposalRepository.findDTOsByFreelancerId(freelancerId);
     }
 
     public ProposalDTO getProposalById(Long id) {
         log.info("Fetching proposal by ID: {}", id);
-        Proposal proposal = proposalRepository.findById(id)
+        return proposalRepository.findDTOById(id)
                 .orElseThrow(() -> new RuntimeException("Proposal not found with ID: " + id));
-        return convertToDTO(proposal);
     }
 
     @Transactional
     public ProposalDTO acceptProposal(Long proposalId) {
         log.info("Accepting proposal ID: {}", proposalId);
 
-        Proposal proposal = proposalRepository.findById(proposalId)
+        Proposal proposal = proposalRepository.findByIdWithProject(proposalId)
                 .orElseThrow(() -> new RuntimeException("Proposal not found with ID: " + proposalId));
 
         if (proposal.getStatus() != ProposalStatus.PENDING) {
@@ -99,26 +102,33 @@ public class ProposalService {
         }
 
         proposal.setStatus(ProposalStatus.ACCEPTED);
-        
-        // Reject all other proposals for the same project
-        List<Proposal> otherProposals = proposalRepository.findByProjectIdAndStatus(
-                proposal.getProject().getId(), ProposalStatus.PENDING);
-        
-        otherProposals.stream()
-                .filter(p -> !p.getId().equals(proposalId))
-                .forEach(p -> {
-                    p.setStatus(ProposalStatus.REJECTED);
-                    proposalRepository.save(p);
-                });
-
         Proposal acceptedProposal = proposalRepository.save(proposal);
         
-        // Update project status
+        // Reject all other pending proposals for the same project in one statement. The native UPDATE
+        // bypasses the persistence context, so flush before it and clear after it (what
+        // @Modifying(flushAutomatically, clearAutomatically) would do; RETURNING rules out @Modifying).
         Project project = proposal.getProject();
+        entityManager.flush();
+        List<ProposalRepository.RejectedProposal> rejected =
+                proposalRepository.rejectOtherPendingProposals(project.getId(), proposalId);
+        entityManager.clear();
+        log.info("Rejected {} other proposals for project ID: {}", rejected.size(), project.getId());
+        
+        // Update project status; merging the detached project still checks the version read above,
+        // so a concurrent acceptance for the same project fails
         project.setAssignedFreelancer(proposal.getFreelancerId());
         project.setStatus(com.freelancenexus.projectservice.model.ProjectStatus.IN_PROGRESS);
         projectRepository.save(project);
 
+        Long projectId = project.getId();
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, ProjectChangedEvent.ChangeType.ASSIGNED));
+        String timestamp = ProjectEventMessage.now();
+        enqueueEvent(new ProjectEventMessage.ProposalAccepted(proposalId, projectId, proposal.getFreelancerId(), timestamp));
+        for (ProposalRepository.RejectedProposal r : rejected) {
+            enqueueEvent(new ProjectEventMessage.ProposalRejected(
+                    r.getProposalId(), projectId, r.getFreelancerId(), timestamp));
+        }
+
         return convertToDTO(acceptedProposal);
     }
 
@@ -126,7 +136,7 @@ public class ProposalService {
     public ProposalDTO rejectProposal(Long proposalId) {
         log.info("Rejecting proposal ID: {}", proposalId);
 
-        Proposal proposal = proposalRepository.findById(proposalId)
+        Proposal proposal = proposalRepository.findByIdWithProject(proposalId)
                 .orElseThrow(() -> new RuntimeException("Proposal not found with ID: " + proposalId));
 
         if (proposal.getStatus() != ProposalStatus.PENDING) {
@@ -136,14 +146,17 @@ public class ProposalService {
         proposal.setStatus(ProposalStatus.REJECTED);
         Proposal rejectedProposal = proposalRepository.save(proposal);
 
+        enqueueEvent(new ProjectEventMessage.ProposalRejected(proposalId, proposal.getProject().getId(),
+                proposal.getFreelancerId(), ProjectEventMessage.now()));
+
         return convertToDTO(rejectedProposal);
     }
 
     public List<ProposalDTO> getRankedProposalsByProjectId(Long projectId) {
         log.info("Fetching ranked proposals for project ID: {}", projectId);
-        return proposalRepository.findByProjectIdOrderByAiScoreDesc(projectId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        List<ProposalDTO> proposals = proposalRepository.findRankedDTOsByProjectId(projectId);
+        proposalScoringService.scheduleUnscored(proposals);
+        return proposals;
     }
 
     private ProposalDTO convertToDTO(Proposal proposal) {
@@ -156,19 +169,22 @@ public class ProposalService {
         dto.setProposedBudget(proposal.getProposedBudget());
         dto.setDeliveryDays(proposal.getDeliveryDays());
         dto.setAiScore(proposal.getAiScore());
+        dto.setAiRank(proposal.getAiRank());
         dto.setStatus(proposal.getStatus());
         dto.setSubmittedAt(proposal.getSubmittedAt());
         dto.setUpdatedAt(proposal.getUpdatedAt());
         return dto;
     }
 
+    // Written to the outbox in the same transaction; OutboxRelay publishes it after commit
     private void publishProposalSubmittedEvent(Proposal proposal) {
-        try {
-            ProposalDTO dto = convertToDTO(proposal);
-            rabbitTemplate.convertAndSend(projectExchange, proposalSubmittedRoutingKey, dto);
-            log.info("Published proposal.submitted event for proposal ID: {}", proposal.getId());
-        } catch (Exception e) {
-            log.error("Error publishing proposal.submitted event", e);
-        }
+        ProposalDTO dto = convertToDTO(proposal);
+        outboxService.enqueue(projectExchange, proposalSubmittedRoutingKey, dto);
+        log.info("Queued proposal.submitted event for proposal ID: {}", proposal.getId());
+    }
+
+    // Written to the outbox in the same transaction; OutboxRelay publishes it after commit
+    private void enqueueEvent(ProjectEventMessage event) {
+        outboxService.enqueue(projectExchange, event.routingKey(), event);
     }
 }
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- Flyway V10: Track failed summary generations so retries back off
+ALTER TABLE project_summaries ADD COLUMN IF NOT EXISTS failure_count INT NOT NULL DEFAULT 0;
+ALTER TABLE project_summaries ADD COLUMN IF NOT EXISTS failed_at TIMESTAMP NULL;
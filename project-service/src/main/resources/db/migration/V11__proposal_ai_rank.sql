@@ -0,0 +1,2 @@
+-- Flyway V11: Global AI rank from the last full ranking; ai_score keeps the absolute rubric score
+ALTER TABLE proposals ADD COLUMN IF NOT EXISTS ai_rank INT;
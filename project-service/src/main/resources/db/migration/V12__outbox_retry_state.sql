@@ -0,0 +1,6 @@
+-- Flyway V12: Per-row retry schedule and dead-lettering for the outbox relay
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP NULL;
+
+-- The relay only scans live rows
+CREATE INDEX IF NOT EXISTS idx_outbox_events_live_id ON outbox_events (id) WHERE dead_lettered_at IS NULL;
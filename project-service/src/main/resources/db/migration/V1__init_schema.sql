@@ -1,6 +1,7 @@
--- Flyway V1: Create schema for project service
+-- Flyway V1: Create schema for project service (PostgreSQL)
+-- Databases created earlier by Hibernate are baselined at this version, so only V2+ run there.
 CREATE TABLE IF NOT EXISTS projects (
-  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  id BIGSERIAL PRIMARY KEY,
   client_id BIGINT,
   title VARCHAR(255),
   description TEXT,
@@ -17,20 +18,20 @@ CREATE TABLE IF NOT EXISTS projects (
 );
 
 CREATE TABLE IF NOT EXISTS proposals (
-  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  id BIGSERIAL PRIMARY KEY,
   project_id BIGINT,
   freelancer_id BIGINT,
   cover_letter TEXT,
   proposed_budget DECIMAL(10,2),
   delivery_days INT,
-  ai_score DOUBLE,
+  ai_score DECIMAL(5,2),
   status VARCHAR(20),
   submitted_at TIMESTAMP NULL,
   updated_at TIMESTAMP NULL
 );
 
 CREATE TABLE IF NOT EXISTS project_milestones (
-  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  id BIGSERIAL PRIMARY KEY,
   project_id BIGINT,
   title VARCHAR(255),
   description TEXT,
@@ -42,4 +43,4 @@ CREATE TABLE IF NOT EXISTS project_milestones (
 
 -- sample data
 INSERT INTO projects (client_id, title, description, budget_min, budget_max, duration_days, required_skills, category, status, deadline, created_at, updated_at)
-VALUES (1, 'Sample project', 'This is a sample project.', 100.00, 500.00, 30, '["java","spring"]', 'Software', 'OPEN', DATE_ADD(CURRENT_DATE, INTERVAL 30 DAY), NOW(), NOW());
+VALUES (1, 'Sample project', 'This is a sample project.', 100.00, 500.00, 30, '["java","spring"]', 'Software', 'OPEN', CURRENT_DATE + INTERVAL '30 days', NOW(), NOW());
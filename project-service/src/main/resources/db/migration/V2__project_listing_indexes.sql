@@ -0,0 +1,4 @@
+-- Flyway V2: Indexes backing keyset pagination on (created_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_projects_created_at_id ON projects (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_projects_status_created_at_id ON projects (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_projects_category_created_at_id ON projects (category, created_at DESC, id DESC);
@@ -0,0 +1,23 @@
+-- Flyway V3: Full-text search over project title/description (PostgreSQL)
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION projects_search_vector_update() RETURNS trigger AS $$
+BEGIN
+  NEW.search_vector :=
+      setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+      setweight(to_tsvector('english', coalesce(NEW.description, '')), 'B');
+  RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_projects_search_vector ON projects;
+CREATE TRIGGER trg_projects_search_vector
+  BEFORE INSERT OR UPDATE OF title, description ON projects
+  FOR EACH ROW EXECUTE FUNCTION projects_search_vector_update();
+
+UPDATE projects SET search_vector =
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_projects_search_vector ON projects USING GIN (search_vector);
@@ -0,0 +1,25 @@
+-- Flyway V4: Move required skills from a JSON TEXT column to indexed text[] columns (PostgreSQL)
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS skills text[];
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS skill_tags text[];
+
+-- Schemas Hibernate created after the array mapping never had required_skills; skip the backfill there
+DO $$
+BEGIN
+  IF EXISTS (SELECT 1 FROM information_schema.columns
+             WHERE table_name = 'projects' AND column_name = 'required_skills') THEN
+    UPDATE projects p SET
+        skills = ARRAY(SELECT trim(s) FROM jsonb_array_elements_text(CAST(p.required_skills AS jsonb)) AS s
+                       WHERE s IS NOT NULL AND trim(s) <> ''),
+        skill_tags = ARRAY(SELECT DISTINCT lower(trim(s)) FROM jsonb_array_elements_text(CAST(p.required_skills AS jsonb)) AS s
+                           WHERE s IS NOT NULL AND trim(s) <> '')
+    WHERE p.skills IS NULL AND p.required_skills LIKE '[%';
+  END IF;
+END
+$$;
+
+UPDATE projects SET skills = '{}', skill_tags = '{}' WHERE skills IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_projects_skill_tags ON projects USING GIN (skill_tags);
+
+-- required_skills is no longer mapped; drop once all readers are on the array columns
+-- ALTER TABLE projects DROP COLUMN required_skills;
@@ -0,0 +1,16 @@
+-- Flyway V5: Persisted AI project summaries, one row per project
+CREATE TABLE IF NOT EXISTS project_summaries (
+  id BIGSERIAL PRIMARY KEY,
+  project_id BIGINT NOT NULL,
+  content_hash VARCHAR(64) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  summary TEXT,
+  key_requirements TEXT,
+  ideal_candidate TEXT,
+  estimated_complexity TEXT,
+  suggested_skills text[],
+  generated_at TIMESTAMP NULL,
+  updated_at TIMESTAMP NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_project_summaries_project_id ON project_summaries (project_id);
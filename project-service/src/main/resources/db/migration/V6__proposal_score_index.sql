@@ -0,0 +1,3 @@
+-- Flyway V6: Serve ranked proposal listings from an index instead of sorting per request
+CREATE INDEX IF NOT EXISTS idx_proposals_project_ai_score
+  ON proposals (project_id, ai_score DESC NULLS LAST, submitted_at);
@@ -0,0 +1,7 @@
+-- Flyway V7: Optimistic lock column for projects
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Hibernate may already have added the column as nullable, leaving existing rows without a version
+UPDATE projects SET version = 0 WHERE version IS NULL;
+ALTER TABLE projects ALTER COLUMN version SET DEFAULT 0;
+ALTER TABLE projects ALTER COLUMN version SET NOT NULL;
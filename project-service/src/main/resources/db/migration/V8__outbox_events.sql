@@ -0,0 +1,11 @@
+-- Flyway V8: Transactional outbox for broker messages
+CREATE TABLE IF NOT EXISTS outbox_events (
+  id BIGSERIAL PRIMARY KEY,
+  exchange VARCHAR(255) NOT NULL,
+  routing_key VARCHAR(255) NOT NULL,
+  payload_type VARCHAR(255) NOT NULL,
+  payload TEXT NOT NULL,
+  attempts INT NOT NULL DEFAULT 0,
+  last_error TEXT,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
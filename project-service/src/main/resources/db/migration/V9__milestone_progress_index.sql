@@ -0,0 +1,3 @@
+-- Flyway V9: Milestone listings and progress aggregates scan one project's rows via this index
+CREATE INDEX IF NOT EXISTS idx_project_milestones_project_status
+  ON project_milestones (project_id, status, due_date);
@@ -3,25 +3,39 @@ package com.freelancenexus.projectservice.controller;
 import com.freelancenexus.projectservice.dto.AIRecommendationDTO;
 import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
 import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.SummaryStatus;
+import com.freelancenexus.projectservice.service.AIRequestExecutor;
 import com.freelancenexus.projectservice.service.AIService;
+import com.freelancenexus.projectservice.service.ProjectSummaryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,6 +45,15 @@ class AIRecommendationControllerTest {
     @Mock
     private AIService aiService;
 
+    @Mock
+    private ProjectSummaryService projectSummaryService;
+
+    @Mock
+    private AIRequestExecutor aiRequestExecutor;
+
+    @Spy
+    private ObjectMapper jsonMapper = new ObjectMapper();
+
     @InjectMocks
     private AIRecommendationController aiRecommendationController;
 
@@ -53,15 +76,64 @@ class AIRecommendationControllerTest {
 
         when(aiService.recommendProjectsForFreelancer(eq(1L), anyList(), nullable(String.class)))
                 .thenReturn(List.of(dto));
+        runInline();
 
-        mockMvc.perform(get("/api/ai/recommendations/freelancer/{freelancerId}", 1L)
+        MvcResult result = mockMvc.perform(get("/api/ai/recommendations/freelancer/{freelancerId}", 1L)
                         .param("skills", "Java", "Spring"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].projectId").value(1))
                 .andExpect(jsonPath("$[0].projectTitle").value("Project A"))
                 .andExpect(jsonPath("$[0].matchScore").value(95));
     }
 
+    @Test
+    void shouldStreamRecommendationsAsNdjson() throws Exception {
+        AIRecommendationDTO first = new AIRecommendationDTO(1L, "Project A", "IT",
+                BigDecimal.valueOf(1000), BigDecimal.valueOf(5000),
+                30, List.of("Java"), BigDecimal.valueOf(95), "High match", List.of("Java"), 100);
+        AIRecommendationDTO second = new AIRecommendationDTO(2L, "Project B", "IT",
+                BigDecimal.valueOf(500), BigDecimal.valueOf(900),
+                10, List.of("Spring"), BigDecimal.valueOf(70), "Partial match", List.of(), 0);
+
+        AIRequestExecutor limiter = new AIRequestExecutor(new SyncTaskExecutor(), 1);
+        when(aiRequestExecutor.acquire("recommendations-stream")).thenReturn(limiter.acquire("recommendations-stream"));
+        doAnswer(invocation -> {
+            Consumer<AIRecommendationDTO> sink = invocation.getArgument(3);
+            sink.accept(first);
+            sink.accept(second);
+            return null;
+        }).when(aiService).streamRecommendationsForFreelancer(eq(1L), anyList(), nullable(String.class), any());
+
+        MvcResult result = mockMvc.perform(get("/api/ai/recommendations/freelancer/{freelancerId}/stream", 1L)
+                        .param("skills", "Java"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        String body = result.getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("projectId").asLong());
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("projectId").asLong());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenStreamCannotStart() throws Exception {
+        when(aiRequestExecutor.acquire("recommendations-stream"))
+                .thenThrow(new AIRequestExecutor.AICapacityExceededException("recommendations-stream"));
+
+        mockMvc.perform(get("/api/ai/recommendations/freelancer/{freelancerId}/stream", 1L)
+                        .param("skills", "Java"))
+                .andExpect(status().isServiceUnavailable());
+
+        verifyNoInteractions(aiService);
+    }
+
     @Test
     void shouldReturnRankedProposalsForProject() throws Exception {
         RankedProposalDTO rankedProposal = new RankedProposalDTO(1L, 2L, "Cover letter...",
@@ -69,8 +141,13 @@ class AIRecommendationControllerTest {
                 "Good match", List.of("Java"), List.of(), LocalDateTime.now());
 
         when(aiService.rankProposalsForProject(1L)).thenReturn(List.of(rankedProposal));
+        runInline();
 
-        mockMvc.perform(get("/api/ai/proposals/rank/{projectId}", 1L))
+        MvcResult result = mockMvc.perform(get("/api/ai/proposals/rank/{projectId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].rank").value(1))
@@ -80,9 +157,9 @@ class AIRecommendationControllerTest {
     @Test
     void shouldReturnProjectSummary() throws Exception {
         ProjectSummaryDTO summary = new ProjectSummaryDTO(1L, "Summary", "Key requirements",
-                "Ideal candidate", "Medium", Arrays.asList("Java", "Spring"));
+                "Ideal candidate", "Medium", Arrays.asList("Java", "Spring"), SummaryStatus.READY);
 
-        when(aiService.generateProjectSummary(1L)).thenReturn(summary);
+        when(projectSummaryService.getSummary(1L)).thenReturn(summary);
 
         mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
                 .andExpect(status().isOk())
@@ -93,11 +170,59 @@ class AIRecommendationControllerTest {
 
     @Test
     void shouldHandleRuntimeException() throws Exception {
-        when(aiService.generateProjectSummary(anyLong()))
+        when(projectSummaryService.getSummary(anyLong()))
                 .thenThrow(new RuntimeException("Something went wrong"));
 
         mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
                 .andExpect(status().isInternalServerError())
                 .andExpect(content().string("AI service error: Something went wrong"));
     }
+
+    @Test
+    void shouldReturnAcceptedWhileSummaryPending() throws Exception {
+        ProjectSummaryDTO pending = new ProjectSummaryDTO();
+        pending.setProjectId(1L);
+        pending.setStatus(SummaryStatus.PENDING);
+        when(projectSummaryService.getSummary(1L)).thenReturn(pending);
+
+        mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenAICapacityExceeded() throws Exception {
+        when(aiRequestExecutor.submit(anyString(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new AIRequestExecutor.AICapacityExceededException("proposal-ranking")));
+
+        MvcResult result = mockMvc.perform(get("/api/ai/proposals/rank/{projectId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void shouldReturnGatewayTimeoutWhenDeadlinePasses() throws Exception {
+        when(aiRequestExecutor.submit(anyString(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        MvcResult result = mockMvc.perform(get("/api/ai/recommendations/freelancer/{freelancerId}", 1L)
+                        .param("skills", "Java"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    // Execute submitted AI work synchronously on the test thread
+    private void runInline() {
+        when(aiRequestExecutor.submit(anyString(), any(), any())).thenAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(1);
+            return CompletableFuture.completedFuture(task.get());
+        });
+    }
 }
@@ -0,0 +1,122 @@
+package com.freelancenexus.projectservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.projectservice.dto.ClientMilestoneDashboardDTO;
+import com.freelancenexus.projectservice.dto.MilestoneCreateDTO;
+import com.freelancenexus.projectservice.dto.MilestoneDTO;
+import com.freelancenexus.projectservice.dto.MilestoneProgressDTO;
+import com.freelancenexus.projectservice.model.MilestoneStatus;
+import com.freelancenexus.projectservice.service.MilestoneService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class MilestoneControllerTest {
+
+    @Mock
+    private MilestoneService milestoneService;
+
+    @InjectMocks
+    private MilestoneController milestoneController;
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    private MilestoneDTO milestoneDTO;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(milestoneController).build();
+        objectMapper = new ObjectMapper();
+
+        milestoneDTO = new MilestoneDTO(10L, 1L, "Design", null, BigDecimal.valueOf(500),
+                null, MilestoneStatus.PENDING, null);
+    }
+
+    @Test
+    void shouldCreateMilestone() throws Exception {
+        when(milestoneService.createMilestone(eq(1L), any(MilestoneCreateDTO.class))).thenReturn(milestoneDTO);
+
+        mockMvc.perform(post("/api/projects/{projectId}/milestones", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new MilestoneCreateDTO("Design", null, BigDecimal.valueOf(500), null))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(10))
+                .andExpect(jsonPath("$.projectId").value(1));
+    }
+
+    @Test
+    void shouldGetProjectMilestones() throws Exception {
+        when(milestoneService.getMilestonesByProjectId(1L)).thenReturn(List.of(milestoneDTO));
+
+        mockMvc.perform(get("/api/projects/{projectId}/milestones", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Design"));
+    }
+
+    @Test
+    void shouldGetProjectProgress() throws Exception {
+        when(milestoneService.getProjectProgress(1L)).thenReturn(new MilestoneProgressDTO(
+                1L, "Project A", 3, 1, 1, BigDecimal.valueOf(100), BigDecimal.valueOf(250)));
+
+        mockMvc.perform(get("/api/projects/{projectId}/milestones/progress", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overdueMilestones").value(1))
+                .andExpect(jsonPath("$.remainingAmount").value(250));
+    }
+
+    @Test
+    void shouldUpdateMilestoneStatus() throws Exception {
+        milestoneDTO.setStatus(MilestoneStatus.IN_PROGRESS);
+        when(milestoneService.updateMilestoneStatus(10L, MilestoneStatus.IN_PROGRESS)).thenReturn(milestoneDTO);
+
+        mockMvc.perform(put("/api/milestones/{id}/status", 10L).param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void shouldDeleteMilestone() throws Exception {
+        mockMvc.perform(delete("/api/milestones/{id}", 10L))
+                .andExpect(status().isNoContent());
+
+        verify(milestoneService).deleteMilestone(10L);
+    }
+
+    @Test
+    void shouldGetClientDashboard() throws Exception {
+        when(milestoneService.getClientDashboard(5L)).thenReturn(new ClientMilestoneDashboardDTO(
+                5L, 5, 3, 1, BigDecimal.valueOf(500), BigDecimal.valueOf(250), List.of()));
+
+        mockMvc.perform(get("/api/milestones/client/{clientId}/dashboard", 5L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMilestones").value(5))
+                .andExpect(jsonPath("$.completedMilestones").value(3));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenMilestoneMissing() throws Exception {
+        when(milestoneService.updateMilestoneStatus(99L, MilestoneStatus.COMPLETED))
+                .thenThrow(new RuntimeException("Milestone not found with ID: 99"));
+
+        mockMvc.perform(put("/api/milestones/{id}/status", 99L).param("status", "COMPLETED"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -3,6 +3,8 @@ package com.freelancenexus.projectservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
+import com.freelancenexus.projectservice.dto.ProjectSearchResultDTO;
 import com.freelancenexus.projectservice.service.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
@@ -170,4 +173,32 @@ class ProjectControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1));
     }
+
+    @Test
+    void shouldGetProjectsPage() throws Exception {
+        ProjectPageDTO page = new ProjectPageDTO(List.of(projectDTO), "next", true);
+        when(projectService.getProjectsPage(null, "OPEN", null, 10, null)).thenReturn(page);
+
+        mockMvc.perform(get("/api/projects/page")
+                        .param("status", "OPEN")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void shouldSearchProjectsWithFacets() throws Exception {
+        ProjectSearchResultDTO result = new ProjectSearchResultDTO(List.of(projectDTO),
+                Map.of("IT", 1L), Map.of("Java", 1L));
+        when(projectService.searchProjectsWithFacets("Test", null, null)).thenReturn(result);
+
+        mockMvc.perform(get("/api/projects/search")
+                        .param("keyword", "Test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.categoryFacets.IT").value(1))
+                .andExpect(jsonPath("$.skillFacets.Java").value(1));
+    }
 }
@@ -48,7 +48,7 @@ class ProposalControllerTest {
                 BigDecimal.valueOf(1500), 15);
 
         proposalDTO = new ProposalDTO(1L, 1L, "Project A", 1L, "Cover letter...",
-                BigDecimal.valueOf(1500), 15, BigDecimal.valueOf(90), null,
+                BigDecimal.valueOf(1500), 15, BigDecimal.valueOf(90), 1, null,
                 LocalDateTime.now(), LocalDateTime.now());
     }
 
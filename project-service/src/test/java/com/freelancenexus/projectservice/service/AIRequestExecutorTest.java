@@ -0,0 +1,96 @@
+package com.freelancenexus.projectservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIRequestExecutorTest {
+
+    @Test
+    void shouldRunTaskAndReleasePermit() throws Exception {
+        AIRequestExecutor executor = new AIRequestExecutor(new SyncTaskExecutor(), 1);
+
+        CompletableFuture<String> future = executor.submit("test", () -> "done", Duration.ofSeconds(5));
+
+        assertEquals("done", future.get());
+        assertEquals(0, executor.inFlight());
+    }
+
+    @Test
+    void shouldHoldAcquiredPermitUntilClosedOnce() {
+        AIRequestExecutor executor = new AIRequestExecutor(new SyncTaskExecutor(), 1);
+
+        AIRequestExecutor.Permit permit = executor.acquire("stream");
+
+        assertThrows(AIRequestExecutor.AICapacityExceededException.class, () -> executor.acquire("second"));
+        permit.close();
+        permit.close();
+        assertEquals(0, executor.inFlight());
+    }
+
+    @Test
+    void shouldRejectWhenLimitReached() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            AIRequestExecutor executor = new AIRequestExecutor(pool::execute, 1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> running = executor.submit("slow", () -> {
+                awaitQuietly(release);
+                return "slow";
+            }, Duration.ofSeconds(5));
+            CompletableFuture<String> rejected = executor.submit("second", () -> "second", Duration.ofSeconds(5));
+
+            ExecutionException ex = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(AIRequestExecutor.AICapacityExceededException.class, ex.getCause());
+
+            release.countDown();
+            assertEquals("slow", running.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldTimeOutButKeepPermitUntilTaskFinishes() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            AIRequestExecutor executor = new AIRequestExecutor(pool::execute, 1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> future = executor.submit("slow", () -> {
+                awaitQuietly(release);
+                return "late";
+            }, Duration.ofMillis(50));
+
+            ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(TimeoutException.class, ex.getCause());
+            assertEquals(1, executor.inFlight());
+
+            release.countDown();
+            pool.shutdown();
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+            assertEquals(0, executor.inFlight());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -12,14 +12,18 @@ import com.freelancenexus.projectservice.repository.ProposalRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,7 +42,13 @@ class AIServiceTest {
     private ProposalRepository proposalRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private ProjectMatchingEngine matchingEngine;
+
+    @Mock
+    private ProposalRankingPipeline rankingPipeline;
+
+    @Spy
+    private ProposalRankingCache rankingCache = new ProposalRankingCache(100, 60);
 
     @InjectMocks
     private AIService aiService;
@@ -56,7 +66,7 @@ class AIServiceTest {
         project.setBudgetMin(BigDecimal.valueOf(1000));
         project.setBudgetMax(BigDecimal.valueOf(5000));
         project.setDurationDays(30);
-        project.setRequiredSkills("[\"Java\", \"Spring\"]");
+        project.setRequiredSkills(List.of("Java", "Spring"));
         project.setDescription("This is a test project");
 
         proposal = new Proposal();
@@ -69,7 +79,7 @@ class AIServiceTest {
 
     @Test
     void shouldReturnRecommendations_whenProjectsExist() throws Exception {
-        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(project));
+        when(matchingEngine.rankProjects(anyList(), anyInt())).thenReturn(List.of(scored(project)));
         when(geminiService.callGeminiForJson(anyString())).thenReturn(mock(JsonNode.class));
 
         List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
@@ -79,33 +89,153 @@ class AIServiceTest {
 
     @Test
     void shouldReturnEmptyRecommendations_whenNoOpenProjects() {
-        when(projectRepository.findAllOpenProjects()).thenReturn(List.of());
+        when(matchingEngine.rankProjects(anyList(), anyInt())).thenReturn(List.of());
 
         List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
 
         assertTrue(recommendations.isEmpty());
+        verifyNoInteractions(geminiService);
     }
 
     @Test
     void shouldFallbackRecommendations_whenExceptionOccurs() throws Exception {
-        when(projectRepository.findAllOpenProjects()).thenThrow(new RuntimeException("DB error"));
+        when(matchingEngine.rankProjects(anyList(), anyInt())).thenThrow(new RuntimeException("DB error"));
 
         List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
 
         assertTrue(recommendations.isEmpty());
     }
 
+    @Test
+    void shouldServeLocalRecommendations_whenGeminiFails() {
+        when(matchingEngine.rankProjects(anyList(), anyInt())).thenReturn(List.of(scored(project)));
+        when(geminiService.callGeminiForJson(anyString())).thenThrow(new RuntimeException("Gemini down"));
+
+        List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
+
+        assertEquals(1, recommendations.size());
+        assertEquals(1L, recommendations.get(0).getProjectId());
+        assertEquals(List.of("java"), recommendations.get(0).getMatchingSkills());
+        assertEquals(new BigDecimal("80.00"), recommendations.get(0).getMatchScore());
+    }
+
+    @Test
+    void shouldStreamRecommendationsAsGeminiProducesThem() {
+        when(matchingEngine.rankProjects(anyList(), anyInt())).thenReturn(List.of(scored(project)));
+        ObjectMapper mapper = new ObjectMapper();
+        when(geminiService.streamGeminiJsonArray(anyString(), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<JsonNode> sink = invocation.getArgument(2);
+            sink.accept(mapper.createObjectNode().put("projectId", 99L)); // not a candidate
+            sink.accept(mapper.createObjectNode().put("projectId", 1L).put("matchScore", 91)
+                    .put("matchReason", "Strong Java fit").put("skillMatchPercentage", 100));
+            return 2;
+        });
+
+        List<AIRecommendationDTO> received = new ArrayList<>();
+        aiService.streamRecommendationsForFreelancer(1L, List.of("Java"), "Bio", received::add);
+
+        assertEquals(1, received.size());
+        assertEquals(1L, received.get(0).getProjectId());
+        assertEquals("Strong Java fit", received.get(0).getMatchReason());
+    }
+
+    @Test
+    void shouldStreamLocalRecommendations_whenGeminiDeliversNothing() {
+        when(matchingEngine.rankProjects(anyList(), anyInt())).thenReturn(List.of(scored(project)));
+        when(geminiService.streamGeminiJsonArray(anyString(), isNull(), any())).thenReturn(0);
+
+        List<AIRecommendationDTO> received = new ArrayList<>();
+        aiService.streamRecommendationsForFreelancer(1L, List.of("Java"), "Bio", received::add);
+
+        assertEquals(1, received.size());
+        assertEquals(new BigDecimal("80.00"), received.get(0).getMatchScore());
+    }
+
     @Test
     void shouldRankProposalsSuccessfully() throws Exception {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
-        when(geminiService.callGeminiForJson(anyString())).thenReturn(mock(JsonNode.class));
-        when(proposalRepository.findById(anyLong())).thenReturn(Optional.of(proposal));
-        when(proposalRepository.save(any(Proposal.class))).thenReturn(proposal);
+        RankedProposalDTO ranked = new RankedProposalDTO();
+        ranked.setId(proposal.getId());
+        ranked.setAiScore(BigDecimal.valueOf(88));
+        ranked.setRank(1);
+        when(rankingPipeline.rank(project, List.of(proposal))).thenReturn(List.of(ranked));
+        when(proposalRepository.updateAiRanks(eq(1L), any(Long[].class), any(Integer[].class))).thenReturn(1);
 
         List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
 
-        assertNotNull(rankings);
+        assertEquals(1, rankings.size());
+        verify(proposalRepository).updateAiRanks(1L, new Long[]{1L}, new Integer[]{1});
+        verify(proposalRepository, never()).updateAiScore(anyLong(), any());
+    }
+
+    @Test
+    void shouldServeRepeatRankingWithoutCallingGemini() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
+        RankedProposalDTO ranked = new RankedProposalDTO();
+        ranked.setId(proposal.getId());
+        ranked.setAiScore(BigDecimal.valueOf(88));
+        ranked.setRank(1);
+        when(rankingPipeline.rank(project, List.of(proposal))).thenReturn(List.of(ranked));
+
+        aiService.rankProposalsForProject(1L);
+        List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
+
+        assertEquals(List.of(ranked), rankings);
+        verify(rankingPipeline, times(1)).rank(any(), anyList());
+        verify(proposalRepository, times(1)).updateAiRanks(anyLong(), any(Long[].class), any(Integer[].class));
+    }
+
+    @Test
+    void shouldRerankWhenProposalsChangeOrRankingIsIncomplete() {
+        Proposal second = new Proposal();
+        second.setId(2L);
+        RankedProposalDTO first = new RankedProposalDTO();
+        first.setId(1L);
+        first.setAiScore(BigDecimal.valueOf(88));
+        RankedProposalDTO unscored = new RankedProposalDTO();
+        unscored.setId(2L);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal), List.of(proposal, second));
+        when(rankingPipeline.rank(eq(project), anyList())).thenReturn(List.of(first), List.of(first, unscored));
+
+        aiService.rankProposalsForProject(1L);
+        aiService.rankProposalsForProject(1L); // a new proposal was submitted
+        aiService.rankProposalsForProject(1L); // the second proposal is still unscored
+
+        verify(rankingPipeline, times(3)).rank(eq(project), anyList());
+    }
+
+    @Test
+    void shouldWriteAllRanksInOneStatement() {
+        List<Proposal> proposals = new ArrayList<>();
+        List<RankedProposalDTO> ranked = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            Proposal p = new Proposal();
+            p.setId(id);
+            proposals.add(p);
+            RankedProposalDTO dto = new RankedProposalDTO();
+            dto.setId(id);
+            dto.setRank((int) id);
+            // Every tenth proposal was not scored by Gemini
+            dto.setAiScore(id % 10 == 0 ? null : BigDecimal.valueOf(100 - id));
+            ranked.add(dto);
+        }
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(proposals);
+        when(rankingPipeline.rank(project, proposals)).thenReturn(ranked);
+
+        aiService.rankProposalsForProject(1L);
+
+        // Unscored proposals still hold a place in the global order
+        ArgumentCaptor<Long[]> ids = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<Integer[]> ranks = ArgumentCaptor.forClass(Integer[].class);
+        verify(proposalRepository, times(1)).updateAiRanks(eq(1L), ids.capture(), ranks.capture());
+        assertEquals(50, ids.getValue().length);
+        assertEquals(50, ranks.getValue()[49]);
+        verify(proposalRepository, never()).findById(anyLong());
+        verify(proposalRepository, never()).save(any(Proposal.class));
     }
 
     @Test
@@ -130,7 +260,7 @@ class AIServiceTest {
     @Test
     void shouldGenerateProjectSummarySuccessfully() throws Exception {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(geminiService.callGeminiForJson(anyString())).thenReturn(mock(JsonNode.class));
+        when(geminiService.callGeminiForJson(anyString(), anyString())).thenReturn(mock(JsonNode.class));
 
         ProjectSummaryDTO summary = aiService.generateProjectSummary(1L);
 
@@ -147,4 +277,8 @@ class AIServiceTest {
         assertNotNull(summary);
         assertEquals("Summary generation failed", summary.getSummary());
     }
+
+    private ProjectMatchingEngine.ScoredProject scored(Project p) {
+        return new ProjectMatchingEngine.ScoredProject(p, 0.8, List.of("java"), 50);
+    }
 }
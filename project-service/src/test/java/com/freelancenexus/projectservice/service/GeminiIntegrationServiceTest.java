@@ -29,6 +29,9 @@ class GeminiIntegrationServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private GeminiResponseCache responseCache;
+
     @InjectMocks
     private GeminiIntegrationService geminiService;
 
@@ -46,10 +49,11 @@ class GeminiIntegrationServiceTest {
 
     @BeforeEach
     void setUp() {
-        when(geminiConfig.getModel()).thenReturn("test-model");
-        when(geminiConfig.getApiKey()).thenReturn("test-key");
-        when(geminiConfig.getTimeout()).thenReturn(5000);  // Changed from 5000L to 5000
-        when(geminiConfig.getMaxRetries()).thenReturn(2);
+        // Only the tests that reach the API use the config
+        lenient().when(geminiConfig.getModel()).thenReturn("test-model");
+        lenient().when(geminiConfig.getApiKey()).thenReturn("test-key");
+        lenient().when(geminiConfig.getTimeout()).thenReturn(5000);  // Changed from 5000L to 5000
+        lenient().when(geminiConfig.getMaxRetries()).thenReturn(2);
     }
 
     @Test
@@ -82,6 +86,22 @@ class GeminiIntegrationServiceTest {
         assertTrue(result.contains("Error from API"));
     }
 
+    @Test
+    void shouldReportCodeAndMessageWhenGeminiReturnsErrorObject() {
+        String prompt = "Test prompt";
+
+        when(geminiWebClient.post()).thenReturn(uriSpec);
+        when(uriSpec.uri(anyString())).thenReturn(bodySpec);
+        when(bodySpec.bodyValue(any())).thenReturn(headersSpec);
+        when(headersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(
+                "{\"error\":{\"code\":429,\"message\":\"Quota exceeded\",\"status\":\"RESOURCE_EXHAUSTED\"}}"));
+
+        String result = geminiService.callGemini(prompt);
+
+        assertEquals("Error from API: 429 RESOURCE_EXHAUSTED: Quota exceeded", result);
+    }
+
     @Test
     void shouldCallGeminiForJsonSuccessfully() throws Exception {
         String prompt = "Test prompt";
@@ -136,4 +156,24 @@ class GeminiIntegrationServiceTest {
 
         assertEquals("Hello World", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldSkipUnrelatedFieldsWhenExtractingText() throws Exception {
+        java.lang.reflect.Method method = GeminiIntegrationService.class.getDeclaredMethod("extractTextFromResponse", String.class);
+        method.setAccessible(true);
+
+        String response = "{\"usageMetadata\":{\"promptTokenCount\":12},\"candidates\":[{\"safetyRatings\":[{\"x\":1}],"
+                + "\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\"First\"},{\"text\":\"Second\"}]}}]}";
+        String result = (String) method.invoke(geminiService, response);
+
+        assertEquals("First", result);
+    }
+
+    @Test
+    void shouldExtractJsonPayloadFromMarkdownFence() {
+        assertEquals("[{\"id\": 1}]",
+                GeminiIntegrationService.extractJsonPayload("Sure!\n```json\n  [{\"id\": 1}]\n```\nDone"));
+        assertEquals("{\"a\": 1}", GeminiIntegrationService.extractJsonPayload("```\n{\"a\": 1}\n```"));
+        assertEquals("{\"a\": 1}", GeminiIntegrationService.extractJsonPayload("  {\"a\": 1}\n"));
+    }
+}
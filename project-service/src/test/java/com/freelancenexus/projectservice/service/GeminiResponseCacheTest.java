@@ -0,0 +1,68 @@
+package com.freelancenexus.projectservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GeminiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new GeminiResponseCache(meterRegistry);
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 60L);
+        cache.init();
+    }
+
+    @Test
+    void shouldFingerprintModelConfigAndPrompt() {
+        String key = cache.fingerprint("gemini-pro", "{temperature=0.7}", "prompt");
+
+        assertEquals(key, cache.fingerprint("gemini-pro", "{temperature=0.7}", "prompt"));
+        assertNotEquals(key, cache.fingerprint("gemini-pro", "{temperature=0.2}", "prompt"));
+        assertNotEquals(key, cache.fingerprint("other-model", "{temperature=0.7}", "prompt"));
+        assertNotEquals(key, cache.fingerprint("gemini-pro", "{temperature=0.7}", "prompt 2"));
+    }
+
+    @Test
+    void shouldServeCachedResponseAndRecordHits() {
+        cache.put("k1", "text", null);
+
+        assertEquals("text", cache.get("k1"));
+        assertNull(cache.get("k2"));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "gemini.responses").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "gemini.responses").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void shouldInvalidateEntriesByTag() {
+        cache.put("k1", "summary", GeminiResponseCache.projectTag(1L));
+        cache.put("k2", "ranking", GeminiResponseCache.projectTag(1L));
+        cache.put("k3", "other", GeminiResponseCache.projectTag(2L));
+
+        cache.invalidateTag(GeminiResponseCache.projectTag(1L));
+
+        assertNull(cache.get("k1"));
+        assertNull(cache.get("k2"));
+        assertEquals("other", cache.get("k3"));
+    }
+
+    @Test
+    void shouldMoveKeyToNewTagWhenReplaced() {
+        cache.put("k1", "old summary", GeminiResponseCache.projectTag(1L));
+        cache.put("k1", "new summary", GeminiResponseCache.projectTag(2L));
+
+        cache.invalidateTag(GeminiResponseCache.projectTag(1L));
+        assertEquals("new summary", cache.get("k1"));
+
+        cache.invalidateTag(GeminiResponseCache.projectTag(2L));
+        assertNull(cache.get("k1"));
+    }
+}
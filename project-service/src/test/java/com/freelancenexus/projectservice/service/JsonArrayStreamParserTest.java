@@ -0,0 +1,66 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayStreamParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> elements = new ArrayList<>();
+    private final JsonArrayStreamParser parser = new JsonArrayStreamParser(objectMapper, elements::add);
+
+    @Test
+    void shouldEmitEachElementAsSoonAsItCompletes() throws IOException {
+        parser.feed("Here you go:\n```json\n[{\"projectId\": 1, \"match");
+        assertTrue(elements.isEmpty());
+
+        parser.feed("Score\": 95, \"matchingSkills\": [\"Java\", \"Spring\"]}, {\"projectId\"");
+        assertEquals(1, elements.size());
+        assertEquals(95, elements.get(0).get("matchScore").asInt());
+        assertEquals(2, elements.get(0).get("matchingSkills").size());
+
+        parser.feed(": 2, \"matchScore\": 80}]\n```\nLet me know if you need more.");
+        assertEquals(2, elements.size());
+        assertEquals(2L, elements.get(1).get("projectId").asLong());
+        assertTrue(parser.isComplete());
+        assertEquals(2, parser.emitted());
+    }
+
+    @Test
+    void shouldHandleChunksSplitInsideTokensAndMultibyteText() throws IOException {
+        String text = "[{\"reason\": \"Café – great fit\", \"score\": 12.5}, [1, 2], \"plain\"]";
+        for (char c : text.toCharArray()) {
+            parser.feed(String.valueOf(c));
+        }
+
+        assertEquals(3, elements.size());
+        assertEquals("Café – great fit", elements.get(0).get("reason").asText());
+        assertEquals(12.5, elements.get(0).get("score").asDouble());
+        assertTrue(elements.get(1).isArray());
+        assertEquals("plain", elements.get(2).asText());
+        assertTrue(parser.isComplete());
+    }
+
+    @Test
+    void shouldIgnoreInputAfterTheArrayCloses() throws IOException {
+        parser.feed("[{\"id\": 1}]");
+        parser.feed("[{\"id\": 2}]");
+
+        assertEquals(1, elements.size());
+    }
+
+    @Test
+    void shouldReportIncompleteArray() throws IOException {
+        parser.feed("```json\n[{\"id\": 1}, {\"id\":");
+
+        assertEquals(1, elements.size());
+        assertFalse(parser.isComplete());
+    }
+}
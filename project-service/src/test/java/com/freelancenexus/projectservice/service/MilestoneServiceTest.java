@@ -0,0 +1,166 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ClientMilestoneDashboardDTO;
+import com.freelancenexus.projectservice.dto.MilestoneCreateDTO;
+import com.freelancenexus.projectservice.dto.MilestoneDTO;
+import com.freelancenexus.projectservice.dto.MilestoneProgressDTO;
+import com.freelancenexus.projectservice.model.MilestoneStatus;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectMilestone;
+import com.freelancenexus.projectservice.repository.ProjectMilestoneRepository;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MilestoneServiceTest {
+
+    @Mock
+    private ProjectMilestoneRepository milestoneRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private MilestoneService milestoneService;
+
+    private Project project;
+    private ProjectMilestone milestone;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project();
+        project.setId(1L);
+        project.setTitle("Project A");
+
+        milestone = new ProjectMilestone();
+        milestone.setId(10L);
+        milestone.setProject(project);
+        milestone.setTitle("Design");
+        milestone.setAmount(BigDecimal.valueOf(500));
+        milestone.setStatus(MilestoneStatus.PENDING);
+    }
+
+    @Test
+    void shouldCreateMilestoneForExistingProject() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(milestoneRepository.save(any(ProjectMilestone.class))).thenReturn(milestone);
+
+        MilestoneDTO created = milestoneService.createMilestone(1L,
+                new MilestoneCreateDTO("Design", null, BigDecimal.valueOf(500), LocalDate.now().plusDays(7)));
+
+        assertEquals(10L, created.getId());
+        assertEquals(1L, created.getProjectId());
+        assertEquals(MilestoneStatus.PENDING, created.getStatus());
+    }
+
+    @Test
+    void shouldThrowWhenProjectNotFoundOnCreate() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> milestoneService.createMilestone(1L,
+                new MilestoneCreateDTO("Design", null, BigDecimal.valueOf(500), null)));
+        verify(milestoneRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldStampCompletionTime() {
+        when(milestoneRepository.findById(10L)).thenReturn(Optional.of(milestone));
+        when(milestoneRepository.save(milestone)).thenReturn(milestone);
+
+        MilestoneDTO completed = milestoneService.updateMilestoneStatus(10L, MilestoneStatus.COMPLETED);
+
+        assertEquals(MilestoneStatus.COMPLETED, completed.getStatus());
+        assertNotNull(completed.getCompletedAt());
+    }
+
+    @Test
+    void shouldNotMoveMilestoneBackwards() {
+        milestone.setStatus(MilestoneStatus.COMPLETED);
+        LocalDateTime completedAt = LocalDateTime.now().minusDays(1);
+        milestone.setCompletedAt(completedAt);
+        when(milestoneRepository.findById(10L)).thenReturn(Optional.of(milestone));
+
+        assertThrows(RuntimeException.class, () -> milestoneService.updateMilestoneStatus(10L, MilestoneStatus.PENDING));
+        MilestoneDTO unchanged = milestoneService.updateMilestoneStatus(10L, MilestoneStatus.COMPLETED);
+
+        assertEquals(completedAt, unchanged.getCompletedAt());
+        verify(milestoneRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectEditsToCompletedMilestone() {
+        milestone.setStatus(MilestoneStatus.COMPLETED);
+        when(milestoneRepository.findById(10L)).thenReturn(Optional.of(milestone));
+
+        assertThrows(RuntimeException.class, () -> milestoneService.updateMilestone(10L,
+                new MilestoneCreateDTO("Design v2", null, BigDecimal.valueOf(600), null)));
+    }
+
+    @Test
+    void shouldReturnZeroProgressWhenProjectHasNoMilestones() {
+        when(milestoneRepository.summarizeByProjectId(eq(1L), eq(MilestoneStatus.COMPLETED), any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+
+        MilestoneProgressDTO progress = milestoneService.getProjectProgress(1L);
+
+        assertEquals(0, progress.getTotalMilestones());
+        assertEquals(BigDecimal.ZERO, progress.getRemainingAmount());
+    }
+
+    @Test
+    void shouldAggregateClientDashboardFromOneQuery() {
+        List<ProjectMilestoneRepository.MilestoneProgress> rows = List.of(
+                progress(1L, 3L, 1L, 1L, "100.00", "250.00"),
+                progress(2L, 2L, 2L, 0L, "400.00", "0"));
+        when(milestoneRepository.summarizeByClientId(eq(5L), eq(MilestoneStatus.COMPLETED), any(LocalDate.class)))
+                .thenReturn(rows);
+
+        ClientMilestoneDashboardDTO dashboard = milestoneService.getClientDashboard(5L);
+
+        assertEquals(2, dashboard.getProjects().size());
+        assertEquals(5, dashboard.getTotalMilestones());
+        assertEquals(3, dashboard.getCompletedMilestones());
+        assertEquals(1, dashboard.getOverdueMilestones());
+        assertEquals(new BigDecimal("500.00"), dashboard.getCompletedAmount());
+        assertEquals(new BigDecimal("250.00"), dashboard.getRemainingAmount());
+        verify(milestoneRepository, times(1)).summarizeByClientId(anyLong(), any(), any());
+        verifyNoMoreInteractions(milestoneRepository);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void shouldThrowWhenDeletingMissingMilestone() {
+        when(milestoneRepository.existsById(10L)).thenReturn(false);
+
+        assertThrows(RuntimeException.class, () -> milestoneService.deleteMilestone(10L));
+        verify(milestoneRepository, never()).deleteById(anyLong());
+    }
+
+    private ProjectMilestoneRepository.MilestoneProgress progress(Long projectId, Long total, Long completed,
+                                                                  Long overdue, String completedAmount,
+                                                                  String remainingAmount) {
+        ProjectMilestoneRepository.MilestoneProgress progress = mock(ProjectMilestoneRepository.MilestoneProgress.class);
+        when(progress.getProjectId()).thenReturn(projectId);
+        when(progress.getTotalMilestones()).thenReturn(total);
+        when(progress.getCompletedMilestones()).thenReturn(completed);
+        when(progress.getOverdueMilestones()).thenReturn(overdue);
+        when(progress.getCompletedAmount()).thenReturn(new BigDecimal(completedAmount));
+        when(progress.getRemainingAmount()).thenReturn(new BigDecimal(remainingAmount));
+        return progress;
+    }
+}
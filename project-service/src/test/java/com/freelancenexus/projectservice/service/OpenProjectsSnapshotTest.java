@@ -0,0 +1,125 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OpenProjectsSnapshotTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private OpenProjectsSnapshot snapshot;
+
+    @Test
+    void shouldLoadOnceAndReturnSameListUntilChanged() {
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(project(2L, 1, ProjectStatus.OPEN)));
+
+        List<Project> first = snapshot.getOpenProjects();
+        List<Project> second = snapshot.getOpenProjects();
+
+        assertSame(first, second);
+        assertEquals(1, first.size());
+        verify(projectRepository, times(1)).findAllOpenProjects();
+    }
+
+    @Test
+    void shouldInsertOpenProjectInNewestFirstOrder() {
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(
+                project(3L, 1, ProjectStatus.OPEN), project(1L, 5, ProjectStatus.OPEN)));
+        List<Project> before = snapshot.getOpenProjects();
+
+        snapshot.apply(2L, project(2L, 3, ProjectStatus.OPEN));
+
+        List<Project> after = snapshot.getOpenProjects();
+        assertNotSame(before, after);
+        assertEquals(List.of(3L, 2L, 1L), after.stream().map(Project::getId).toList());
+        assertEquals(2, before.size());
+    }
+
+    @Test
+    void shouldDropProjectThatIsNoLongerOpen() {
+        Project assigned = project(3L, 1, ProjectStatus.IN_PROGRESS);
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(
+                project(3L, 1, ProjectStatus.OPEN), project(1L, 5, ProjectStatus.OPEN)));
+        when(projectRepository.findById(3L)).thenReturn(Optional.of(assigned));
+        snapshot.getOpenProjects();
+
+        snapshot.onProjectChanged(new ProjectChangedEvent(3L, ProjectChangedEvent.ChangeType.ASSIGNED));
+
+        assertEquals(List.of(1L), snapshot.getOpenProjects().stream().map(Project::getId).toList());
+    }
+
+    @Test
+    void shouldApplyConcurrentChangesInTheOrderTheyWereRead() throws Exception {
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(project(3L, 1, ProjectStatus.OPEN)));
+        snapshot.getOpenProjects();
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(projectRepository.findById(3L))
+                .thenAnswer(invocation -> {
+                    firstReading.countDown();
+                    releaseFirst.await();
+                    return Optional.of(project(3L, 1, ProjectStatus.OPEN));
+                })
+                .thenReturn(Optional.of(project(3L, 1, ProjectStatus.IN_PROGRESS)));
+        ProjectChangedEvent event = new ProjectChangedEvent(3L, ProjectChangedEvent.ChangeType.UPDATED);
+
+        Thread older = new Thread(() -> snapshot.onProjectChanged(event));
+        older.start();
+        firstReading.await();
+        Thread newer = new Thread(() -> snapshot.onProjectChanged(event));
+        newer.start();
+        newer.join(200); // without the lock the newer state would be applied here, before the older one
+        releaseFirst.countDown();
+        older.join();
+        newer.join();
+
+        assertTrue(snapshot.getOpenProjects().isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreEventsBeforeFirstLoad() {
+        snapshot.onProjectChanged(new ProjectChangedEvent(1L, ProjectChangedEvent.ChangeType.CREATED));
+
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void shouldReloadOnReconcile() {
+        when(projectRepository.findAllOpenProjects())
+                .thenReturn(List.of(project(1L, 5, ProjectStatus.OPEN)))
+                .thenReturn(List.of(project(1L, 5, ProjectStatus.OPEN), project(4L, 0, ProjectStatus.OPEN)));
+        snapshot.getOpenProjects();
+
+        snapshot.reconcile();
+
+        assertEquals(2, snapshot.getOpenProjects().size());
+        verify(projectRepository, times(2)).findAllOpenProjects();
+    }
+
+    private Project project(Long id, int ageDays, ProjectStatus status) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Project " + id);
+        project.setStatus(status);
+        project.setCreatedAt(LocalDateTime.now().minusDays(ageDays));
+        return project;
+    }
+}
@@ -0,0 +1,180 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.OutboxEvent;
+import com.freelancenexus.projectservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(outboxRelay, "leaseMs", 30000L);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 10);
+        ReflectionTestUtils.setField(outboxRelay, "retryBackoffMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "maxRetryBackoffMs", 600000L);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        event = new OutboxEvent();
+        event.setId(7L);
+        event.setExchange("project.exchange");
+        event.setRoutingKey("project.created");
+        event.setPayloadType("com.freelancenexus.projectservice.dto.ProjectDTO");
+        event.setPayload("{\"id\":1}");
+    }
+
+    @Test
+    void shouldPublishBatchAndDeleteAfterConfirm() {
+        when(outboxEventRepository.claimNextBatch(100, 30000L)).thenReturn(List.of(event));
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+        confirmSends(true);
+
+        int published = outboxRelay.publishBatch();
+
+        assertEquals(1, published);
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(operations).send(eq("project.exchange"), eq("project.created"), message.capture(), any(CorrelationData.class));
+        assertEquals("{\"id\":1}", new String(message.getValue().getBody(), StandardCharsets.UTF_8));
+        assertEquals("com.freelancenexus.projectservice.dto.ProjectDTO",
+                message.getValue().getMessageProperties().getHeader("__TypeId__"));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    void shouldPublishOutsideTheClaimTransaction() {
+        when(outboxEventRepository.claimNextBatch(100, 30000L)).thenReturn(List.of(event));
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+        confirmSends(true);
+
+        outboxRelay.publishBatch();
+
+        // Claim, then send with no transaction open, then a second transaction settles the rows
+        InOrder order = inOrder(transactionTemplate, outboxEventRepository, rabbitTemplate);
+        order.verify(transactionTemplate).execute(any());
+        order.verify(outboxEventRepository).claimNextBatch(100, 30000L);
+        order.verify(rabbitTemplate).invoke(any());
+        order.verify(transactionTemplate).execute(any());
+        order.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    void shouldSettleEachEventByItsOwnConfirm() {
+        OutboxEvent poison = new OutboxEvent();
+        poison.setId(8L);
+        poison.setExchange("project.exchange");
+        poison.setRoutingKey("project.updated");
+        poison.setPayloadType("com.freelancenexus.projectservice.dto.ProjectDTO");
+        poison.setPayload("{\"id\":2}");
+        when(outboxEventRepository.claimNextBatch(100, 30000L)).thenReturn(List.of(event, poison));
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            boolean ack = correlation.getId().equals("outbox-7");
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "rejected"));
+            return null;
+        }).when(operations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        int published = outboxRelay.publishBatch();
+
+        assertEquals(1, published);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(7L));
+        verify(outboxEventRepository).recordFailure(List.of(8L), "Broker nacked: rejected", 10, 1000L, 600000L);
+        assertEquals(1.0, meterRegistry.get("project.events.confirms").tag("result", "ack").counter().count());
+        assertEquals(1.0, meterRegistry.get("project.events.confirms").tag("result", "nack").counter().count());
+    }
+
+    @Test
+    void shouldKeepEventsWhenBrokerNacks() {
+        when(outboxEventRepository.claimNextBatch(100, 30000L)).thenReturn(List.of(event));
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+        confirmSends(false);
+
+        int published = outboxRelay.publishBatch();
+
+        assertEquals(0, published);
+        verify(outboxEventRepository).recordFailure(eq(List.of(7L)), anyString(), eq(10), eq(1000L), eq(600000L));
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyIterable());
+    }
+
+    @Test
+    void shouldKeepEventsWhenSendFails() {
+        when(outboxEventRepository.claimNextBatch(100, 30000L)).thenReturn(List.of(event));
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpException("nack"));
+
+        int published = outboxRelay.publishBatch();
+
+        assertEquals(0, published);
+        verify(outboxEventRepository).recordFailure(List.of(7L), "not sent", 10, 1000L, 600000L);
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyIterable());
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxEmpty() {
+        when(outboxEventRepository.claimNextBatch(100, 30000L)).thenReturn(List.of());
+
+        outboxRelay.relay();
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private void confirmSends(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(operations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+}
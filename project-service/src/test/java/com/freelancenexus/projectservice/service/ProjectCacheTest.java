@@ -0,0 +1,71 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.event.ProposalSubmittedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectCache cache;
+    private AtomicInteger loads;
+    private Function<Long, ProjectDTO> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProjectCache(meterRegistry);
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        cache.init();
+
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            ProjectDTO dto = new ProjectDTO();
+            dto.setId(id);
+            return dto;
+        };
+    }
+
+    @Test
+    void shouldLoadOnceAndServeFromCache() {
+        assertEquals(1L, cache.get(1L, loader).getId());
+        assertEquals(1L, cache.get(1L, loader).getId());
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "projects").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "projects").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void shouldEvictOnProjectChange() {
+        cache.get(1L, loader);
+
+        cache.onProjectChanged(new ProjectChangedEvent(1L, ProjectChangedEvent.ChangeType.UPDATED));
+        cache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldEvictOnProposalSubmission() {
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        cache.onProposalSubmitted(new ProposalSubmittedEvent(10L, 1L));
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        assertEquals(3, loads.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMatchingEngineTest {
+
+    @Mock
+    private OpenProjectsSnapshot openProjectsSnapshot;
+
+    @InjectMocks
+    private ProjectMatchingEngine matchingEngine;
+
+    @Test
+    void shouldRankSkillOverlapAboveRecency() {
+        Project javaSpring = project(1L, List.of("Java", "Spring"), 10);
+        Project java = project(2L, List.of("Java", "Kotlin", "Gradle"), 5);
+        Project design = project(3L, List.of("Figma"), 0);
+        when(openProjectsSnapshot.getOpenProjects()).thenReturn(List.of(design, java, javaSpring));
+
+        List<ProjectMatchingEngine.ScoredProject> ranked = matchingEngine.rankProjects(List.of("java", "SPRING"), 3);
+
+        assertEquals(3, ranked.size());
+        assertEquals(1L, ranked.get(0).getProject().getId());
+        assertEquals(List.of("java", "spring"), ranked.get(0).getMatchingSkills());
+        assertEquals(100, ranked.get(0).getSkillMatchPercentage());
+        assertEquals(2L, ranked.get(1).getProject().getId());
+        assertEquals(3L, ranked.get(2).getProject().getId());
+        assertTrue(ranked.get(2).getMatchingSkills().isEmpty());
+    }
+
+    @Test
+    void shouldLimitResultsAndReuseIndex() {
+        when(openProjectsSnapshot.getOpenProjects()).thenReturn(List.of(
+                project(1L, List.of("Java"), 1), project(2L, List.of("Java"), 2), project(3L, List.of("Java"), 3)));
+
+        List<ProjectMatchingEngine.ScoredProject> first = matchingEngine.rankProjects(List.of("Java"), 2);
+        Object builtIndex = ReflectionTestUtils.getField(matchingEngine, "index");
+        List<ProjectMatchingEngine.ScoredProject> second = matchingEngine.rankProjects(List.of("Java"), 2);
+
+        assertEquals(2, first.size());
+        assertEquals(1L, first.get(0).getProject().getId());
+        assertEquals(2, second.size());
+        assertSame(builtIndex, ReflectionTestUtils.getField(matchingEngine, "index"));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoOpenProjects() {
+        when(openProjectsSnapshot.getOpenProjects()).thenReturn(List.of());
+
+        assertTrue(matchingEngine.rankProjects(List.of("Java"), 5).isEmpty());
+    }
+
+    private Project project(Long id, List<String> skills, int ageDays) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Project " + id);
+        project.setRequiredSkills(skills);
+        project.setStatus(ProjectStatus.OPEN);
+        project.setBudgetMax(BigDecimal.valueOf(1000));
+        project.setCreatedAt(LocalDateTime.now().minusDays(ageDays));
+        return project;
+    }
+}
@@ -3,20 +3,28 @@ package com.freelancenexus.projectservice.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
+import com.freelancenexus.projectservice.dto.ProjectSearchResultDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.ProjectStatus;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,11 +39,26 @@ class ProjectServiceTest {
     private ProposalRepository proposalRepository;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxService outboxService;
 
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private GeminiResponseCache geminiResponseCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProjectCache projectCache;
+
+    @Mock
+    private OpenProjectsSnapshot openProjectsSnapshot;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -43,7 +66,7 @@ class ProjectServiceTest {
     private ProjectCreateDTO createDTO;
 
     @BeforeEach
-    void setUp() throws Exception {
+    void setUp() {
         createDTO = new ProjectCreateDTO(
                 1L, "Title", "Description",
                 BigDecimal.valueOf(100), BigDecimal.valueOf(200),
@@ -58,13 +81,10 @@ class ProjectServiceTest {
         project.setBudgetMin(createDTO.getBudgetMin());
         project.setBudgetMax(createDTO.getBudgetMax());
         project.setDurationDays(createDTO.getDurationDays());
-        project.setRequiredSkills("[]");
+        project.setRequiredSkills(createDTO.getRequiredSkills());
         project.setCategory(createDTO.getCategory());
         project.setStatus(ProjectStatus.OPEN);
         project.setDeadline(createDTO.getDeadline());
-
-        when(objectMapper.writeValueAsString(anyList())).thenReturn("[]");
-        when(objectMapper.readValue(anyString(), eq(List.class))).thenReturn(createDTO.getRequiredSkills());
     }
 
     @Test
@@ -76,11 +96,14 @@ class ProjectServiceTest {
 
         assertNotNull(dto);
         assertEquals("Title", dto.getTitle());
-        verify(rabbitTemplate, times(1)).convertAndSend(anyString(), anyString(), any(ProjectDTO.class));
+        assertEquals(List.of("Java", "Spring"), dto.getRequiredSkills());
+        verify(outboxService, times(1)).enqueue(any(), any(), any(ProjectDTO.class));
+        verify(eventPublisher).publishEvent(any(ProjectChangedEvent.class));
     }
 
     @Test
     void shouldFetchProjectById() {
+        readThroughCache();
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
 
@@ -92,6 +115,7 @@ class ProjectServiceTest {
 
     @Test
     void shouldThrowExceptionWhenProjectNotFound() {
+        readThroughCache();
         when(projectRepository.findById(99L)).thenReturn(Optional.empty());
 
         RuntimeException ex = assertThrows(RuntimeException.class, () -> projectService.getProjectById(99L));
@@ -108,6 +132,7 @@ class ProjectServiceTest {
 
         assertNotNull(dto);
         assertEquals("Title", dto.getTitle());
+        verify(geminiResponseCache).invalidateTag("project:1");
     }
 
     @Test
@@ -122,7 +147,7 @@ class ProjectServiceTest {
     @Test
     void shouldReturnAllProjects() {
         when(projectRepository.findAll()).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
 
         List<ProjectDTO> projects = projectService.getAllProjects();
 
@@ -132,7 +157,7 @@ class ProjectServiceTest {
     @Test
     void shouldReturnProjectsByClientId() {
         when(projectRepository.findByClientId(1L)).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
 
         List<ProjectDTO> projects = projectService.getProjectsByClientId(1L);
 
@@ -141,8 +166,8 @@ class ProjectServiceTest {
 
     @Test
     void shouldReturnOpenProjects() {
-        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+        when(openProjectsSnapshot.getOpenProjects()).thenReturn(List.of(project));
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
 
         List<ProjectDTO> projects = projectService.getOpenProjects();
 
@@ -152,7 +177,7 @@ class ProjectServiceTest {
     @Test
     void shouldSearchProjectsByKeywordAndStatus() {
         when(projectRepository.searchByKeywordAndStatus(anyString(), any())).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
 
         List<ProjectDTO> projects = projectService.searchProjects("Title", "OPEN");
 
@@ -162,7 +187,7 @@ class ProjectServiceTest {
     @Test
     void shouldReturnProjectsByCategory() {
         when(projectRepository.findByCategory("Software")).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
 
         List<ProjectDTO> projects = projectService.getProjectsByCategory("Software");
 
@@ -180,4 +205,131 @@ class ProjectServiceTest {
         assertEquals(ProjectStatus.IN_PROGRESS, project.getStatus());
         assertEquals(100L, dto.getAssignedFreelancer());
     }
+
+    @Test
+    void shouldResolveProposalCountsWithSingleGroupedQuery() {
+        List<Project> projects = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            Project p = new Project();
+            p.setId(id);
+            p.setTitle("Project " + id);
+            p.setStatus(ProjectStatus.OPEN);
+            projects.add(p);
+        }
+        ProposalRepository.ProposalCount count = mock(ProposalRepository.ProposalCount.class);
+        when(count.getProjectId()).thenReturn(7L);
+        when(count.getProposalCount()).thenReturn(3L);
+        when(openProjectsSnapshot.getOpenProjects()).thenReturn(projects);
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of(count));
+
+        List<ProjectDTO> dtos = projectService.getOpenProjects();
+
+        assertEquals(200, dtos.size());
+        assertEquals(3, dtos.get(6).getProposalCount());
+        assertEquals(0, dtos.get(0).getProposalCount());
+        verify(proposalRepository, times(1)).countByProjectIds(anyCollection());
+        verify(proposalRepository, never()).countByProjectId(anyLong());
+    }
+
+    @Test
+    void shouldReturnFirstPageWithCursorWhenMoreRowsExist() {
+        Project older = new Project();
+        older.setId(2L);
+        older.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        project.setCreatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        when(projectRepository.findPageAfter(any(LocalDateTime.class), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(project, older));
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
+
+        ProjectPageDTO page = projectService.getProjectsPage(null, null, null, 1, null);
+
+        assertEquals(1, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldResumeFromCursor() {
+        project.setCreatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-03T10:00|5".getBytes());
+        when(projectRepository.findPageByStatusAfter(eq(ProjectStatus.OPEN), eq(LocalDateTime.of(2024, 1, 3, 10, 0)),
+                eq(5L), any(Pageable.class))).thenReturn(List.of(project));
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
+
+        ProjectPageDTO page = projectService.getProjectsPage(null, "open", null, 10, cursor);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> projectService.getProjectsPage(null, null, null, 10, "not-a-cursor"));
+    }
+
+    @Test
+    void shouldRejectCursorWithUnparseableTimestamp() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("yesterday|12".getBytes());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> projectService.getProjectsPage(null, null, null, 10, cursor));
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void shouldSearchWithFacets() {
+        ProjectRepository.FacetCount category = mock(ProjectRepository.FacetCount.class);
+        when(category.getValue()).thenReturn("Software");
+        when(category.getCount()).thenReturn(4L);
+        ProjectRepository.FacetCount skill = mock(ProjectRepository.FacetCount.class);
+        when(skill.getValue()).thenReturn("Java");
+        when(skill.getCount()).thenReturn(3L);
+        when(projectRepository.searchRankedByKeywordAndStatus("api", "OPEN", 20)).thenReturn(List.of(project));
+        when(projectRepository.countCategoryFacets("api", "OPEN")).thenReturn(List.of(category));
+        when(projectRepository.countSkillFacets(eq("api"), eq("OPEN"), anyInt())).thenReturn(List.of(skill));
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
+
+        ProjectSearchResultDTO result = projectService.searchProjectsWithFacets("api", null, null);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(4L, result.getCategoryFacets().get("Software"));
+        assertEquals(3L, result.getSkillFacets().get("Java"));
+    }
+
+    @Test
+    void shouldQueryOpenProjectsByLowerCasedSkillTags() {
+        when(projectRepository.findOpenProjectsWithAllSkills(new String[]{"java", "spring"})).thenReturn(List.of(project));
+        when(proposalRepository.countByProjectIds(anyCollection())).thenReturn(List.of());
+
+        List<ProjectDTO> projects = projectService.getOpenProjectsRequiringAllSkills(List.of("Java", " spring", "JAVA"));
+
+        assertEquals(1, projects.size());
+        assertEquals(List.of("java", "spring"), project.getSkillTags());
+    }
+
+    @Test
+    void shouldDropBlankSkillsAndTolerateMissingSkillArray() {
+        project.setRequiredSkills(Arrays.asList(" Java ", null, "  ", "Spring"));
+        assertEquals(List.of("Java", "Spring"), project.getRequiredSkills());
+        assertEquals(List.of("java", "spring"), project.getSkillTags());
+
+        // As loaded from a row whose skills column is NULL
+        ReflectionTestUtils.setField(project, "requiredSkills", null);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.countByProjectId(1L)).thenReturn(0L);
+        readThroughCache();
+
+        ProjectDTO dto = projectService.getProjectById(1L);
+
+        assertEquals(List.of(), dto.getRequiredSkills());
+    }
+
+    private void readThroughCache() {
+        when(projectCache.get(anyLong(), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, ProjectDTO>>getArgument(1).apply(invocation.getArgument(0)));
+    }
 }
@@ -0,0 +1,192 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectSummary;
+import com.freelancenexus.projectservice.model.SummaryStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import com.freelancenexus.projectservice.repository.ProjectSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSummaryServiceTest {
+
+    @Mock
+    private ProjectSummaryRepository summaryRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private TaskExecutor aiTaskExecutor;
+
+    @InjectMocks
+    private ProjectSummaryService projectSummaryService;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project();
+        project.setId(1L);
+        project.setTitle("Test Project");
+        project.setDescription("Description");
+        project.setCategory("IT");
+        project.setBudgetMin(BigDecimal.valueOf(1000));
+        project.setBudgetMax(BigDecimal.valueOf(5000));
+        project.setDurationDays(30);
+        project.setRequiredSkills(List.of("Java"));
+    }
+
+    @Test
+    void shouldServeStoredSummaryForCurrentRevision() {
+        ProjectSummary stored = new ProjectSummary();
+        stored.setProjectId(1L);
+        stored.setStatus(SummaryStatus.READY);
+        stored.setContentHash(projectSummaryService.contentHash(project));
+        stored.setSummary("Stored summary");
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(summaryRepository.findByProjectId(1L)).thenReturn(Optional.of(stored));
+
+        ProjectSummaryDTO dto = projectSummaryService.getSummary(1L);
+
+        assertEquals("Stored summary", dto.getSummary());
+        assertEquals(SummaryStatus.READY, dto.getStatus());
+        verifyNoInteractions(aiService, aiTaskExecutor);
+    }
+
+    @Test
+    void shouldReturnPendingAndScheduleGenerationWhenStale() {
+        ProjectSummary stored = new ProjectSummary();
+        stored.setProjectId(1L);
+        stored.setStatus(SummaryStatus.READY);
+        stored.setContentHash("outdated");
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(summaryRepository.findByProjectId(1L)).thenReturn(Optional.of(stored));
+
+        ProjectSummaryDTO dto = projectSummaryService.getSummary(1L);
+        projectSummaryService.getSummary(1L);
+
+        assertEquals(SummaryStatus.PENDING, dto.getStatus());
+        verify(aiTaskExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldReturnPendingAndRescheduleLaterWhenExecutorRejects() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(summaryRepository.findByProjectId(1L)).thenReturn(Optional.empty());
+        doThrow(new TaskRejectedException("saturated")).doNothing().when(aiTaskExecutor).execute(any(Runnable.class));
+
+        ProjectSummaryDTO dto = projectSummaryService.getSummary(1L);
+        projectSummaryService.getSummary(1L);
+
+        assertEquals(SummaryStatus.PENDING, dto.getStatus());
+        verify(aiTaskExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldNotRetryFailedSummaryWithinBackoff() {
+        ReflectionTestUtils.setField(projectSummaryService, "retryBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(projectSummaryService, "maxRetryBackoffSeconds", 3600L);
+        ProjectSummary stored = failedSummary(2, LocalDateTime.now().minusSeconds(90));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(summaryRepository.findByProjectId(1L)).thenReturn(Optional.of(stored));
+
+        ProjectSummaryDTO dto = projectSummaryService.getSummary(1L);
+
+        // Second consecutive failure waits 120s
+        assertEquals(SummaryStatus.FAILED, dto.getStatus());
+        verifyNoInteractions(aiTaskExecutor);
+    }
+
+    @Test
+    void shouldRetryFailedSummaryOnceBackoffElapses() {
+        ReflectionTestUtils.setField(projectSummaryService, "retryBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(projectSummaryService, "maxRetryBackoffSeconds", 3600L);
+        ProjectSummary stored = failedSummary(1, LocalDateTime.now().minusSeconds(90));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(summaryRepository.findByProjectId(1L)).thenReturn(Optional.of(stored));
+
+        ProjectSummaryDTO dto = projectSummaryService.getSummary(1L);
+
+        assertEquals(SummaryStatus.PENDING, dto.getStatus());
+        verify(aiTaskExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldCountConsecutiveFailures() {
+        ProjectSummary stored = failedSummary(1, LocalDateTime.now().minusDays(1));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(summaryRepository.findByProjectId(1L)).thenReturn(Optional.of(stored));
+        when(summaryRepository.save(any(ProjectSummary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(aiService.summarizeProject(project)).thenReturn(new ProjectSummaryDTO());
+
+        projectSummaryService.generate(1L);
+
+        assertEquals(SummaryStatus.FAILED, stored.getStatus());
+        assertEquals(2, stored.getFailureCount());
+        assertTrue(stored.getFailedAt().isAfter(LocalDateTime.now().minusMinutes(1)));
+    }
+
+    @Test
+    void shouldGenerateAndPersistSummaryOnProjectCreated() {
+        ProjectSummaryDTO generated = new ProjectSummaryDTO(1L, "Fresh summary", "Reqs", "Ideal", "Low",
+                List.of("Java"), SummaryStatus.READY);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(summaryRepository.findByProjectId(1L)).thenReturn(Optional.empty());
+        when(summaryRepository.save(any(ProjectSummary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(aiService.summarizeProject(project)).thenReturn(generated);
+
+        projectSummaryService.onProjectChanged(new ProjectChangedEvent(1L, ProjectChangedEvent.ChangeType.CREATED));
+
+        verify(summaryRepository, times(2)).save(argThat(summary ->
+                summary.getProjectId().equals(1L) && summary.getContentHash() != null));
+        verify(aiService).summarizeProject(project);
+    }
+
+    @Test
+    void shouldIgnoreAssignmentEvents() {
+        projectSummaryService.onProjectChanged(new ProjectChangedEvent(1L, ProjectChangedEvent.ChangeType.ASSIGNED));
+
+        verifyNoInteractions(projectRepository, summaryRepository, aiService);
+    }
+
+    @Test
+    void shouldChangeHashWhenContentChanges() {
+        String before = projectSummaryService.contentHash(project);
+        project.setDescription("New description");
+
+        assertNotEquals(before, projectSummaryService.contentHash(project));
+    }
+
+    private ProjectSummary failedSummary(int failures, LocalDateTime failedAt) {
+        ProjectSummary stored = new ProjectSummary();
+        stored.setProjectId(1L);
+        stored.setStatus(SummaryStatus.FAILED);
+        stored.setContentHash(projectSummaryService.contentHash(project));
+        stored.setFailureCount(failures);
+        stored.setFailedAt(failedAt);
+        return stored;
+    }
+}
@@ -0,0 +1,141 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProposalRankingPipelineTest {
+
+    private static final Pattern PROPOSAL_ID = Pattern.compile("Proposal ID: (\\d+)");
+
+    @Mock
+    private GeminiIntegrationService geminiService;
+
+    private ProposalRankingPipeline pipeline;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new ProposalRankingPipeline(geminiService, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(pipeline, "batchTokenBudget", 6000);
+        ReflectionTestUtils.setField(pipeline, "maxBatchSize", 3);
+        ReflectionTestUtils.setField(pipeline, "maxCoverLetterChars", 2000);
+        ReflectionTestUtils.setField(pipeline, "finalistsPerBatch", 1);
+
+        project = new Project();
+        project.setId(1L);
+        project.setTitle("Test Project");
+        project.setDescription("Build a REST API");
+        project.setBudgetMin(BigDecimal.valueOf(1000));
+        project.setBudgetMax(BigDecimal.valueOf(5000));
+        project.setDurationDays(30);
+        project.setRequiredSkills(List.of("Java"));
+    }
+
+    @Test
+    void shouldMergeBatchesIntoGlobalOrder() {
+        // Gemini prefers higher proposal ids
+        when(geminiService.callGeminiForJson(anyString(), anyString())).thenAnswer(invocation ->
+                rankByDescendingId(invocation.getArgument(0)));
+
+        List<RankedProposalDTO> ranked = pipeline.rank(project, proposals(7));
+
+        assertEquals(List.of(7L, 6L, 5L, 4L, 3L, 2L, 1L),
+                ranked.stream().map(RankedProposalDTO::getId).collect(Collectors.toList()));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7),
+                ranked.stream().map(RankedProposalDTO::getRank).collect(Collectors.toList()));
+        // Three first-round batches plus one final
+        verify(geminiService, times(4)).callGeminiForJson(anyString(), anyString());
+    }
+
+    @Test
+    void shouldSplitBatchesOnTokenBudget() {
+        ReflectionTestUtils.setField(pipeline, "batchTokenBudget", 800);
+        List<Proposal> proposals = proposals(3);
+        proposals.forEach(proposal -> proposal.setCoverLetter("x".repeat(1600)));
+
+        List<List<Proposal>> batches = pipeline.partition(project, proposals);
+
+        assertEquals(3, batches.size());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() == 1));
+    }
+
+    @Test
+    void shouldTruncateLongCoverLetters() {
+        ReflectionTestUtils.setField(pipeline, "maxCoverLetterChars", 100);
+        List<Proposal> proposals = proposals(3);
+        proposals.forEach(proposal -> proposal.setCoverLetter("x".repeat(50_000)));
+
+        List<List<Proposal>> batches = pipeline.partition(project, proposals);
+
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void shouldKeepUnscoredProposalsWhenGeminiFails() {
+        when(geminiService.callGeminiForJson(anyString(), anyString())).thenReturn(objectMapper.createObjectNode());
+
+        List<RankedProposalDTO> ranked = pipeline.rank(project, proposals(2));
+
+        assertEquals(2, ranked.size());
+        assertTrue(ranked.stream().allMatch(dto -> dto.getAiScore() == null));
+    }
+
+    private ArrayNode rankByDescendingId(String prompt) {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = PROPOSAL_ID.matcher(prompt);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        ids.sort(Comparator.reverseOrder());
+
+        ArrayNode response = objectMapper.createArrayNode();
+        for (int i = 0; i < ids.size(); i++) {
+            response.addObject()
+                    .put("proposalId", ids.get(i))
+                    .put("aiScore", ids.get(i) * 10)
+                    .put("rank", i + 1)
+                    .put("aiAnalysis", "Analysis")
+                    .putArray("strengths");
+        }
+        return response;
+    }
+
+    private List<Proposal> proposals(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(id -> {
+            Proposal proposal = new Proposal();
+            proposal.setId(id);
+            proposal.setFreelancerId(100 + id);
+            proposal.setCoverLetter("Cover letter " + id);
+            proposal.setProposedBudget(BigDecimal.valueOf(1500));
+            proposal.setDeliveryDays(15);
+            return proposal;
+        }).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,166 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.projectservice.dto.ProposalDTO;
+import com.freelancenexus.projectservice.event.ProposalSubmittedEvent;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.repository.ProposalRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProposalScoringServiceTest {
+
+    @Mock
+    private ProposalRepository proposalRepository;
+
+    @Mock
+    private GeminiIntegrationService geminiService;
+
+    @Mock
+    private TaskExecutor aiTaskExecutor;
+
+    @InjectMocks
+    private ProposalScoringService proposalScoringService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Proposal proposal;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setTitle("Test Project");
+        project.setDescription("Build a REST API");
+        project.setBudgetMin(BigDecimal.valueOf(1000));
+        project.setBudgetMax(BigDecimal.valueOf(5000));
+        project.setDurationDays(30);
+        project.setRequiredSkills(List.of("Java"));
+
+        proposal = new Proposal();
+        proposal.setId(10L);
+        proposal.setProject(project);
+        proposal.setCoverLetter("Cover letter");
+        proposal.setProposedBudget(BigDecimal.valueOf(1500));
+        proposal.setDeliveryDays(15);
+    }
+
+    @Test
+    void shouldScoreProposalOnSubmission() {
+        when(proposalRepository.findByIdWithProject(10L)).thenReturn(Optional.of(proposal));
+        when(geminiService.callGeminiForJson(anyString(), anyString()))
+                .thenReturn(objectMapper.createObjectNode().put("aiScore", 87.456));
+
+        proposalScoringService.onProposalSubmitted(new ProposalSubmittedEvent(10L, 1L));
+
+        verify(proposalRepository).updateAiScore(10L, new BigDecimal("87.46"));
+    }
+
+    @Test
+    void shouldClampOutOfRangeScores() {
+        when(proposalRepository.findByIdWithProject(10L)).thenReturn(Optional.of(proposal));
+        when(geminiService.callGeminiForJson(anyString(), anyString()))
+                .thenReturn(objectMapper.createObjectNode().put("aiScore", 140));
+
+        proposalScoringService.scoreProposal(10L);
+
+        verify(proposalRepository).updateAiScore(10L, new BigDecimal("100.00"));
+    }
+
+    @Test
+    void shouldLeaveScoreEmptyWhenGeminiFails() {
+        when(proposalRepository.findByIdWithProject(10L)).thenReturn(Optional.of(proposal));
+        when(geminiService.callGeminiForJson(anyString(), anyString())).thenReturn(objectMapper.createObjectNode());
+
+        proposalScoringService.scoreProposal(10L);
+
+        verify(proposalRepository, never()).updateAiScore(anyLong(), any());
+    }
+
+    @Test
+    void shouldScheduleOnlyUnscoredProposals() {
+        ProposalDTO unscored = new ProposalDTO();
+        unscored.setId(10L);
+        ProposalDTO scored = new ProposalDTO();
+        scored.setId(11L);
+        scored.setAiScore(BigDecimal.valueOf(70));
+
+        proposalScoringService.scheduleUnscored(List.of(unscored, scored));
+
+        verify(aiTaskExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldNotScheduleProposalAlreadyQueued() {
+        ProposalDTO unscored = new ProposalDTO();
+        unscored.setId(10L);
+
+        proposalScoringService.scheduleUnscored(List.of(unscored));
+        proposalScoringService.scheduleUnscored(List.of(unscored));
+
+        verify(aiTaskExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldDeferSchedulingWhenExecutorRejects() {
+        ProposalDTO first = new ProposalDTO();
+        first.setId(10L);
+        ProposalDTO second = new ProposalDTO();
+        second.setId(11L);
+        doThrow(new TaskRejectedException("queue full")).when(aiTaskExecutor).execute(any(Runnable.class));
+
+        assertDoesNotThrow(() -> proposalScoringService.scheduleUnscored(List.of(first, second)));
+
+        verify(aiTaskExecutor, times(1)).execute(any(Runnable.class));
+        // The rejected proposal is not left marked as queued
+        doNothing().when(aiTaskExecutor).execute(any(Runnable.class));
+        proposalScoringService.scheduleUnscored(List.of(first));
+        verify(aiTaskExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldBackOffAfterFailedAttempt() {
+        ReflectionTestUtils.setField(proposalScoringService, "retryBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(proposalScoringService, "maxRetryBackoffSeconds", 3600L);
+        when(proposalRepository.findByIdWithProject(10L)).thenReturn(Optional.of(proposal));
+        when(geminiService.callGeminiForJson(anyString(), anyString())).thenThrow(new RuntimeException("Gemini down"));
+        ProposalDTO unscored = new ProposalDTO();
+        unscored.setId(10L);
+
+        proposalScoringService.scoreProposal(10L);
+        proposalScoringService.scheduleUnscored(List.of(unscored));
+
+        assertTrue(proposalScoringService.isBackingOff(10L));
+        verifyNoInteractions(aiTaskExecutor);
+    }
+
+    @Test
+    void shouldForgetFailuresOnceLongestBackoffHasPassed() {
+        ReflectionTestUtils.setField(proposalScoringService, "maxRetryBackoffSeconds", 0L);
+        when(proposalRepository.findByIdWithProject(10L)).thenReturn(Optional.of(proposal));
+        when(geminiService.callGeminiForJson(anyString(), anyString())).thenThrow(new RuntimeException("Gemini down"));
+
+        proposalScoringService.scoreProposal(10L);
+
+        Cache<?, ?> failures = (Cache<?, ?>) ReflectionTestUtils.getField(proposalScoringService, "failures");
+        assertTrue(failures.asMap().isEmpty());
+    }
+}
@@ -2,18 +2,22 @@ package com.freelancenexus.projectservice.service;
 
 import com.freelancenexus.projectservice.dto.ProposalDTO;
 import com.freelancenexus.projectservice.dto.ProposalSubmitDTO;
+import com.freelancenexus.projectservice.event.ProjectChangedEvent;
+import com.freelancenexus.projectservice.event.ProjectEventMessage;
+import com.freelancenexus.projectservice.event.ProposalSubmittedEvent;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.ProjectStatus;
 import com.freelancenexus.projectservice.model.Proposal;
 import com.freelancenexus.projectservice.model.ProposalStatus;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -33,7 +37,16 @@ class ProposalServiceTest {
     private ProjectRepository projectRepository;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProposalScoringService proposalScoringService;
+
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private ProposalService proposalService;
@@ -75,7 +88,8 @@ class ProposalServiceTest {
 
         assertNotNull(dto);
         assertEquals(100L, dto.getFreelancerId());
-        verify(rabbitTemplate, times(1)).convertAndSend(anyString(), anyString(), any(ProposalDTO.class));
+        verify(outboxService, times(1)).enqueue(any(), any(), any(ProposalDTO.class));
+        verify(eventPublisher).publishEvent(any(ProposalSubmittedEvent.class));
     }
 
     @Test
@@ -109,41 +123,45 @@ class ProposalServiceTest {
 
     @Test
     void shouldFetchProposalsByProjectId() {
-        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
+        when(proposalRepository.findDTOsByProjectId(1L)).thenReturn(List.of(proposalDTO()));
 
         List<ProposalDTO> list = proposalService.getProposalsByProjectId(1L);
 
         assertEquals(1, list.size());
+        assertEquals("Project 1", list.get(0).getProjectTitle());
     }
 
     @Test
-    void shouldFetchProposalsByFreelancerId() {
-        when(proposalRepository.findByFreelancerId(100L)).thenReturn(List.of(proposal));
+    void shouldServeFreelancerProposalsFromProjectionWithoutEntityLookups() {
+        when(proposalRepository.findDTOsByFreelancerId(100L)).thenReturn(List.of(proposalDTO(), proposalDTO()));
 
         List<ProposalDTO> list = proposalService.getProposalsByFreelancerId(100L);
 
-        assertEquals(1, list.size());
+        assertEquals(2, list.size());
+        // Checks the service's repository calls only; the SQL issued per call is not observable with mocks.
+        // The projection already carries the project title, so no entity or project lookups follow
+        verify(proposalRepository, times(1)).findDTOsByFreelancerId(100L);
+        verifyNoMoreInteractions(proposalRepository);
+        verifyNoInteractions(projectRepository);
     }
 
     @Test
     void shouldFetchProposalById() {
-        when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findDTOById(1L)).thenReturn(Optional.of(proposalDTO()));
 
         ProposalDTO dto = proposalService.getProposalById(1L);
 
         assertNotNull(dto);
         assertEquals(1L, dto.getId());
+        verify(proposalRepository, never()).findById(anyLong());
     }
 
     @Test
     void shouldAcceptProposal() {
-        Proposal other = new Proposal();
-        other.setId(2L);
-        other.setProject(project);
-        other.setStatus(ProposalStatus.PENDING);
+        ProposalRepository.RejectedProposal other = mock(ProposalRepository.RejectedProposal.class);
 
-        when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
-        when(proposalRepository.findByProjectIdAndStatus(1L, ProposalStatus.PENDING)).thenReturn(List.of(proposal, other));
+        when(proposalRepository.findByIdWithProject(1L)).thenReturn(Optional.of(proposal));
+        when(proposalRepository.rejectOtherPendingProposals(1L, 1L)).thenReturn(List.of(other));
         when(proposalRepository.save(any(Proposal.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
 
@@ -152,24 +170,47 @@ class ProposalServiceTest {
         assertEquals(ProposalStatus.ACCEPTED, proposal.getStatus());
         assertEquals(ProjectStatus.IN_PROGRESS, project.getStatus());
         assertEquals(proposal.getFreelancerId(), project.getAssignedFreelancer());
+        // Other proposals are rejected in bulk, never loaded one by one
+        verify(proposalRepository, never()).findByProjectIdAndStatus(anyLong(), any());
+        verify(proposalRepository, times(1)).save(any(Proposal.class));
+        verify(eventPublisher).publishEvent(any(ProjectChangedEvent.class));
+        // Broker events go through the outbox in the same transaction
+        verify(outboxService).enqueue(any(), eq("proposal.accepted"), any(ProjectEventMessage.ProposalAccepted.class));
+        verify(outboxService).enqueue(any(), eq("proposal.rejected"), any(ProjectEventMessage.ProposalRejected.class));
+        // The bulk UPDATE runs against flushed state and leaves no stale managed proposals behind
+        InOrder order = inOrder(entityManager, proposalRepository, projectRepository);
+        order.verify(entityManager).flush();
+        order.verify(proposalRepository).rejectOtherPendingProposals(1L, 1L);
+        order.verify(entityManager).clear();
+        order.verify(projectRepository).save(project);
     }
 
     @Test
     void shouldRejectProposal() {
-        when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findByIdWithProject(1L)).thenReturn(Optional.of(proposal));
         when(proposalRepository.save(any(Proposal.class))).thenReturn(proposal);
 
         ProposalDTO dto = proposalService.rejectProposal(1L);
 
         assertEquals(ProposalStatus.REJECTED, proposal.getStatus());
+        verify(outboxService).enqueue(any(), eq("proposal.rejected"),
+                argThat(event -> event instanceof ProjectEventMessage.ProposalRejected rejected
+                        && rejected.proposalId().equals(1L) && rejected.freelancerId().equals(100L)));
     }
 
     @Test
     void shouldGetRankedProposals() {
-        when(proposalRepository.findByProjectIdOrderByAiScoreDesc(1L)).thenReturn(List.of(proposal));
+        List<ProposalDTO> rows = List.of(proposalDTO());
+        when(proposalRepository.findRankedDTOsByProjectId(1L)).thenReturn(rows);
 
         List<ProposalDTO> ranked = proposalService.getRankedProposalsByProjectId(1L);
 
         assertEquals(1, ranked.size());
+        verify(proposalScoringService).scheduleUnscored(rows);
+    }
+
+    private ProposalDTO proposalDTO() {
+        return new ProposalDTO(1L, 1L, "Project 1", 100L, "Cover Letter", BigDecimal.valueOf(100), 5,
+                null, null, ProposalStatus.PENDING, null, null);
     }
 }